@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.wildfly.common.Assert;
@@ -30,6 +31,8 @@ public final class BuildContext {
     private final Execution execution;
     private final AtomicInteger dependencies;
     private volatile boolean running;
+    private List<StepCache.Produced> produced;
+    private volatile long readyTime;
 
     BuildContext(final StepInfo stepInfo, final Execution execution) {
         this.stepInfo = stepInfo;
@@ -375,6 +378,12 @@ public final class BuildContext {
         if (!stepInfo.getProduces().contains(id)) {
             throw Messages.msg.undeclaredItem(id);
         }
+        final List<StepCache.Produced> produced = this.produced;
+        if (produced != null) {
+            synchronized (produced) {
+                produced.add(new StepCache.Produced(id, value));
+            }
+        }
         if (id.isMulti()) {
             final List<BuildItem> list = execution.getMultis().computeIfAbsent(id, x -> new ArrayList<>());
             synchronized (list) {
@@ -398,7 +407,41 @@ public final class BuildContext {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
+        }
+    }
+
+    int getPriority() {
+        return stepInfo.getPriority();
+    }
+
+    void setReadyTime(long readyTime) {
+        this.readyTime = readyTime;
+    }
+
+    private void executeCached(final StepCache stepCache, final BuildStep buildStep) {
+        final String key = stepCache.computeKey(stepInfo, execution.getSingles(), execution.getMultis());
+        if (key == null) {
+            buildStep.execute(this);
+            return;
+        }
+        final List<StepCache.Produced> cached = stepCache.load(key, buildStep.getClass().getClassLoader());
+        if (cached != null) {
+            log.tracef("Reusing cached items of step \"%s\"", buildStep);
+            for (StepCache.Produced item : cached) {
+                doProduce(item.id, item.item);
+            }
+            return;
+        }
+        final List<StepCache.Produced> produced = new ArrayList<>();
+        this.produced = produced;
+        try {
+            buildStep.execute(this);
+        } finally {
+            this.produced = null;
+        }
+        if (!execution.isErrorReported()) {
+            stepCache.store(key, produced);
         }
     }
 
@@ -406,13 +449,18 @@ public final class BuildContext {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
                 running = true;
                 try {
-                    buildStep.execute(this);
+                    final StepCache stepCache = execution.getStepCache();
+                    if (stepCache != null && stepInfo.isCacheable()) {
+                        executeCached(stepCache, buildStep);
+                    } else {
+                        buildStep.execute(this);
+                    }
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     synchronized (list) {
@@ -425,7 +473,11 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long end = System.nanoTime();
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(end - start));
+            if (execution.isTimingEnabled()) {
+                execution.recordTiming(stepInfo, Thread.currentThread().getName(), readyTime, start, end);
+            }
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
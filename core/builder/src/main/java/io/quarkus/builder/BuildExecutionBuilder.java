@@ -1,5 +1,7 @@
 package io.quarkus.builder;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,10 +19,14 @@ import io.quarkus.builder.item.NamedBuildItem;
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public final class BuildExecutionBuilder {
+    private static final String TIMING_OUTPUT = System.getProperty("jboss.builder.timing-output");
+
     private final BuildChain buildChain;
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private Path cacheDirectory;
+    private Path timingReport = TIMING_OUTPUT == null || TIMING_OUTPUT.isEmpty() ? null : Paths.get(TIMING_OUTPUT);
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -111,6 +117,33 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    /**
+     * Set the directory in which the items produced by {@linkplain BuildStepBuilder#setCacheable(boolean) cacheable}
+     * build steps are persisted. If no directory is set, nothing is cached.
+     *
+     * @param cacheDirectory the cache directory, or {@code null} to disable caching
+     * @return this builder
+     */
+    public BuildExecutionBuilder setCacheDirectory(final Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    /**
+     * Set the file to which a JSON report of the timing of each build step is written once the build completes.
+     * Each entry records the step name, the thread that ran it, and the times at which it became runnable, started
+     * and finished, in microseconds relative to the start of the build. Defaults to the value of the
+     * {@code jboss.builder.timing-output} system property. Quarkus builds set it from the
+     * {@code quarkus.build-timing} build configuration.
+     *
+     * @param timingReport the report file, or {@code null} to disable the report
+     * @return this builder
+     */
+    public BuildExecutionBuilder setTimingReport(final Path timingReport) {
+        this.timingReport = timingReport;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -152,6 +185,14 @@ public final class BuildExecutionBuilder {
         return initialMulti;
     }
 
+    Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    Path getTimingReport() {
+        return timingReport;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -21,6 +21,8 @@ public final class BuildStepBuilder {
     private final Map<ItemId, Consume> consumes = new HashMap<>();
     private final Map<ItemId, Produce> produces = new HashMap<>();
     private BuildStep buildStep;
+    private boolean cacheable;
+    private Class<?> definingClass;
 
     BuildStepBuilder(final BuildChainBuilder buildChainBuilder) {
         this.buildChainBuilder = buildChainBuilder;
@@ -38,6 +40,34 @@ public final class BuildStepBuilder {
         return this;
     }
 
+    /**
+     * Mark this build step as cacheable. A cacheable build step must produce its items solely as a function of the
+     * items it consumes, and its {@code toString()} must be stable from one build to the next. If the execution has a
+     * {@linkplain BuildExecutionBuilder#setCacheDirectory(java.nio.file.Path) cache directory}, the items produced by
+     * the step are stored there and the step is skipped on a later build whose consumed items are unchanged, with the
+     * same Quarkus version and the same {@linkplain #setDefiningClass(Class) defining class}.
+     *
+     * @param cacheable {@code true} if the step may be cached
+     * @return this builder
+     */
+    public BuildStepBuilder setCacheable(final boolean cacheable) {
+        this.cacheable = cacheable;
+        return this;
+    }
+
+    /**
+     * Set the class whose code determines what a cacheable build step produces. The cached items of the step are
+     * invalidated whenever the bytecode of this class, or of its enclosing classes, changes. Defaults to the class of
+     * the build step. A step whose defining class bytecode cannot be read, such as a lambda, is never cached.
+     *
+     * @param definingClass the defining class
+     * @return this builder
+     */
+    public BuildStepBuilder setDefiningClass(final Class<?> definingClass) {
+        this.definingClass = definingClass;
+        return this;
+    }
+
     /**
      * This build step should complete before any build steps which consume the given item {@code type} are initiated.
      * If no such build steps exist, no ordering constraint is enacted.
@@ -401,6 +431,14 @@ public final class BuildStepBuilder {
         return buildStep;
     }
 
+    boolean isCacheable() {
+        return cacheable;
+    }
+
+    Class<?> getDefiningClass() {
+        return definingClass != null ? definingClass : buildStep.getClass();
+    }
+
     private void addConsumes(final ItemId itemId, final Constraint constraint, final ConsumeFlags flags) {
         Assert.checkNotNullParam("flags", flags);
         consumes.compute(itemId,
@@ -3,11 +3,19 @@ package io.quarkus.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -36,6 +44,12 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final StepCache stepCache;
+    private final PriorityBlockingQueue<BuildContext> readyQueue = new PriorityBlockingQueue<>(64,
+            Comparator.comparingInt(BuildContext::getPriority).reversed());
+    private final Path timingReport;
+    private final ConcurrentLinkedQueue<StepTiming> timings;
+    private volatile long startTime;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -50,6 +64,9 @@ final class Execution {
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
         buildTargetName = builder.getBuildTargetName();
+        stepCache = builder.getCacheDirectory() == null ? null : new StepCache(builder.getCacheDirectory());
+        timingReport = builder.getTimingReport();
+        timings = timingReport == null ? null : new ConcurrentLinkedQueue<>();
         executor = executorBuilder.build();
         lastStepCount.set(builder.getChain().getEndStepCount());
         if (lastStepCount.get() == 0)
@@ -70,11 +87,12 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startTime = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -102,6 +120,9 @@ final class Execution {
                 if (intr)
                     Thread.currentThread().interrupt();
             }
+        if (timingReport != null) {
+            writeTimingReport();
+        }
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.getLevel() == Diagnostic.Level.ERROR) {
                 BuildException failed = new BuildException("Build failed due to errors", diagnostic.getThrown(),
@@ -120,10 +141,98 @@ final class Execution {
                 max(0, System.nanoTime() - start));
     }
 
+    /**
+     * Schedule a step whose dependencies have all completed. Runnable steps are queued by priority and each task
+     * submitted to the executor runs the most critical step available at the time it starts, so that steps on the
+     * longest dependency chain are not held up behind steps which nothing else is waiting for.
+     *
+     * @param buildContext the context of the runnable step
+     */
+    void schedule(BuildContext buildContext) {
+        buildContext.setReadyTime(System.nanoTime());
+        readyQueue.add(buildContext);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final BuildContext buildContext = readyQueue.poll();
+        if (buildContext != null) {
+            buildContext.run();
+        }
+    }
+
+    boolean isTimingEnabled() {
+        return timings != null;
+    }
+
+    void recordTiming(StepInfo stepInfo, String threadName, long readyTime, long startTime, long endTime) {
+        timings.add(new StepTiming(stepInfo.getBuildStep().toString(), threadName, stepInfo.getPriority(), readyTime,
+                startTime, endTime));
+    }
+
+    private void writeTimingReport() {
+        final List<StepTiming> list = new ArrayList<>(timings);
+        list.sort(Comparator.comparingLong(t -> t.startTime));
+        final long start = startTime;
+        try {
+            final Path parent = timingReport.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(timingReport, StandardCharsets.UTF_8)) {
+                writer.write("[");
+                writer.newLine();
+                for (int i = 0; i < list.size(); i++) {
+                    final StepTiming timing = list.get(i);
+                    writer.write("  {\"step\": ");
+                    writeJsonString(writer, timing.step);
+                    writer.write(", \"thread\": ");
+                    writeJsonString(writer, timing.thread);
+                    writer.write(", \"priority\": " + timing.priority);
+                    writer.write(", \"ready\": " + micros(timing.readyTime - start));
+                    writer.write(", \"start\": " + micros(timing.startTime - start));
+                    writer.write(", \"end\": " + micros(timing.endTime - start));
+                    writer.write(", \"wait\": " + micros(timing.startTime - timing.readyTime));
+                    writer.write(", \"duration\": " + micros(timing.endTime - timing.startTime));
+                    writer.write(i < list.size() - 1 ? "}," : "}");
+                    writer.newLine();
+                }
+                writer.write("]");
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.warnf(e, "Failed to write build step timing report to %s", timingReport);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(max(0, nanos));
+    }
+
+    private static void writeJsonString(BufferedWriter writer, String str) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
 
+    StepCache getStepCache() {
+        return stepCache;
+    }
+
     String getBuildTargetName() {
         return buildTargetName;
     }
@@ -156,4 +265,23 @@ final class Execution {
             unpark(runningThread);
         }
     }
+
+    static final class StepTiming {
+        final String step;
+        final String thread;
+        final int priority;
+        final long readyTime;
+        final long startTime;
+        final long endTime;
+
+        StepTiming(final String step, final String thread, final int priority, final long readyTime,
+                final long startTime, final long endTime) {
+            this.step = step;
+            this.thread = thread;
+            this.priority = priority;
+            this.readyTime = readyTime;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+    }
 }
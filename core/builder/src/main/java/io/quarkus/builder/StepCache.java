@@ -0,0 +1,259 @@
+package io.quarkus.builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.builder.item.BuildItem;
+
+/**
+ * An on-disk, content-addressed store for the items produced by cacheable build steps.
+ * <p>
+ * The key of a step is a hash of the Quarkus version, of the step identity (its {@code toString()}), of the location
+ * and bytecode of the class defining the step and of the serialized form of every item it consumes. If any consumed or
+ * produced item is not {@link Serializable}, or if the bytecode of the defining class cannot be read, the step is
+ * simply not cached.
+ */
+final class StepCache {
+
+    private static final String SUFFIX = ".items";
+
+    // Bumped whenever the layout of the cache entries changes, entries of other formats are discarded
+    private static final int FORMAT = 2;
+
+    private static final String NO_FINGERPRINT = "";
+
+    private final Path directory;
+    private final Map<Class<?>, String> fingerprints = new ConcurrentHashMap<>();
+
+    StepCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Compute the cache key of the given step.
+     *
+     * @param stepInfo the step (must not be {@code null})
+     * @param singles the currently produced single items
+     * @param multis the currently produced multi items
+     * @return the hex-encoded key, or {@code null} if the step inputs cannot be hashed
+     */
+    String computeKey(StepInfo stepInfo, Map<ItemId, BuildItem> singles, Map<ItemId, List<BuildItem>> multis) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final String fingerprint = fingerprints.computeIfAbsent(stepInfo.getDefiningClass(), StepCache::fingerprint);
+        if (fingerprint.isEmpty()) {
+            Execution.log.tracef("Bytecode of step \"%s\" cannot be read; not caching", stepInfo.getBuildStep());
+            return null;
+        }
+        final List<ItemId> consumes = new ArrayList<>(stepInfo.getConsumes());
+        consumes.sort(Comparator.comparing(ItemId::toString));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeUTF(Version.getVersion());
+            oos.writeUTF(stepInfo.getBuildStep().toString());
+            oos.writeUTF(fingerprint);
+            for (ItemId id : consumes) {
+                oos.writeUTF(id.toString());
+                if (id.isMulti()) {
+                    final List<BuildItem> list = multis.getOrDefault(id, Collections.emptyList());
+                    synchronized (list) {
+                        oos.writeInt(list.size());
+                        for (BuildItem item : list) {
+                            oos.writeObject(item);
+                        }
+                    }
+                } else {
+                    oos.writeObject(singles.get(id));
+                }
+            }
+        } catch (NotSerializableException e) {
+            Execution.log.tracef("Step \"%s\" consumes a non-serializable item (%s); not caching",
+                    stepInfo.getBuildStep(), e.getMessage());
+            return null;
+        } catch (IOException e) {
+            Execution.log.debugf(e, "Failed to compute cache key of step \"%s\"", stepInfo.getBuildStep());
+            return null;
+        }
+        return toHex(digest.digest(bytes.toByteArray()));
+    }
+
+    /**
+     * Compute the fingerprint of the code of a step: the name, origin and bytecode of its defining class and of the
+     * classes enclosing it, which contain the code of anonymous and inner step classes.
+     *
+     * @param definingClass the defining class of the step
+     * @return the fingerprint, or {@link #NO_FINGERPRINT} if the bytecode of a class cannot be read
+     */
+    private static String fingerprint(Class<?> definingClass) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final byte[] buffer = new byte[8192];
+        for (Class<?> clazz = definingClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            digest.update(clazz.getName().getBytes(StandardCharsets.UTF_8));
+            // the file name of the jar holding the class identifies its artifact and version
+            final CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                final String location = codeSource.getLocation().getPath();
+                final String artifact = location.substring(location.lastIndexOf('/', location.length() - 2) + 1);
+                digest.update(artifact.getBytes(StandardCharsets.UTF_8));
+            }
+            final Package pkg = clazz.getPackage();
+            final String version = pkg == null ? null : pkg.getImplementationVersion();
+            if (version != null) {
+                digest.update(version.getBytes(StandardCharsets.UTF_8));
+            }
+            final ClassLoader classLoader = clazz.getClassLoader();
+            final String resource = clazz.getName().replace('.', '/') + ".class";
+            try (InputStream is = classLoader == null ? ClassLoader.getSystemResourceAsStream(resource)
+                    : classLoader.getResourceAsStream(resource)) {
+                if (is == null) {
+                    // e.g. a lambda
+                    return NO_FINGERPRINT;
+                }
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                return NO_FINGERPRINT;
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(byte[] hash) {
+        final StringBuilder b = new StringBuilder(hash.length * 2);
+        for (byte h : hash) {
+            b.append(Character.forDigit((h >> 4) & 0xf, 16)).append(Character.forDigit(h & 0xf, 16));
+        }
+        return b.toString();
+    }
+
+    /**
+     * Load the items previously stored under the given key.
+     *
+     * @param key the cache key (must not be {@code null})
+     * @param classLoader the class loader used to resolve the item classes
+     * @return the stored items, or {@code null} on a cache miss
+     */
+    List<Produced> load(String key, ClassLoader classLoader) {
+        final Path file = directory.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream is = Files.newInputStream(file)) {
+            try (ObjectInputStream ois = new ItemInputStream(is, classLoader)) {
+                if (ois.readInt() != FORMAT) {
+                    Execution.log.debugf("Discarding build cache entry %s of another format", file);
+                    return null;
+                }
+                final int size = ois.readInt();
+                final List<Produced> items = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    // the declared type, which may be a supertype of the class of the item
+                    final Class<? extends BuildItem> type = ((Class<?>) ois.readObject()).asSubclass(BuildItem.class);
+                    final Object name = ois.readObject();
+                    final BuildItem item = type.cast(ois.readObject());
+                    items.add(new Produced(new ItemId(type, name), item));
+                }
+                return items;
+            }
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            Execution.log.debugf(e, "Discarding unreadable build cache entry %s", file);
+            return null;
+        }
+    }
+
+    /**
+     * Store the items produced by a step under the given key. Nothing is stored if any item is not serializable.
+     *
+     * @param key the cache key (must not be {@code null})
+     * @param items the produced items (must not be {@code null})
+     */
+    void store(String key, List<Produced> items) {
+        for (Produced produced : items) {
+            if (!(produced.item instanceof Serializable)) {
+                return;
+            }
+        }
+        try {
+            Files.createDirectories(directory);
+            final Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                try (OutputStream os = Files.newOutputStream(tmp)) {
+                    try (ObjectOutputStream oos = new ObjectOutputStream(os)) {
+                        oos.writeInt(FORMAT);
+                        oos.writeInt(items.size());
+                        for (Produced produced : items) {
+                            oos.writeObject(produced.id.getType());
+                            oos.writeObject(produced.id.getName());
+                            oos.writeObject(produced.item);
+                        }
+                    }
+                }
+                Files.move(tmp, directory.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            Execution.log.debugf(e, "Failed to store build cache entry %s", key);
+        }
+    }
+
+    static final class Produced {
+        final ItemId id;
+        final BuildItem item;
+
+        Produced(final ItemId id, final BuildItem item) {
+            this.id = id;
+            this.item = item;
+        }
+    }
+
+    static final class ItemInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        ItemInputStream(final InputStream in, final ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
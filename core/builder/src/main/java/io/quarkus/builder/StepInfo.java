@@ -10,13 +10,23 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final boolean cacheable;
+    private final Class<?> definingClass;
+    private final int priority;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
         consumes = builder.getRealConsumes();
         produces = builder.getRealProduces();
+        cacheable = builder.isCacheable();
+        definingClass = builder.getDefiningClass();
         this.dependencies = dependencies;
         this.dependents = dependents;
+        int longestChain = 0;
+        for (StepInfo dependent : dependents) {
+            longestChain = Math.max(longestChain, dependent.getPriority());
+        }
+        priority = longestChain + 1;
     }
 
     BuildStep getBuildStep() {
@@ -38,4 +48,22 @@ final class StepInfo {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    /**
+     * Get the scheduling priority of this step, which is the length of the longest chain of steps that depend on it
+     * (including this one). Steps on the critical path of the build have the highest priority.
+     *
+     * @return the priority of this step
+     */
+    int getPriority() {
+        return priority;
+    }
+
+    boolean isCacheable() {
+        return cacheable;
+    }
+
+    Class<?> getDefiningClass() {
+        return definingClass;
+    }
 }
@@ -1,11 +1,18 @@
 package io.quarkus.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +28,44 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class ValueItem extends SimpleBuildItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String value;
+
+        public ValueItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class LengthItem extends SimpleBuildItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final int length;
+
+        public LengthItem(int length) {
+            this.length = length;
+        }
+    }
+
+    public static class SizeItem extends SimpleBuildItem implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final int size;
+
+        public SizeItem(int size) {
+            this.size = size;
+        }
+    }
+
+    public static final class ExactSizeItem extends SizeItem {
+        private static final long serialVersionUID = 1L;
+
+        public ExactSizeItem(int size) {
+            super(size);
+        }
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -232,4 +277,192 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testCacheable() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(ValueItem.class);
+        final AtomicInteger runs = new AtomicInteger();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                context.produce(new LengthItem(context.consume(ValueItem.class).value.length()));
+            }
+
+            @Override
+            public String toString() {
+                return "length";
+            }
+        });
+        stepBuilder.consumes(ValueItem.class);
+        stepBuilder.produces(LengthItem.class);
+        stepBuilder.setCacheable(true);
+        stepBuilder.build();
+        builder.addFinal(LengthItem.class);
+        final BuildChain chain = builder.build();
+        final Path cacheDir = Files.createTempDirectory("build-cache");
+
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").setCacheDirectory(cacheDir)
+                .produce(new ValueItem("foo")).execute();
+        assertEquals(3, result.consume(LengthItem.class).length);
+        assertEquals(1, runs.get());
+
+        result = chain.createExecutionBuilder("my-app.jar").setCacheDirectory(cacheDir)
+                .produce(new ValueItem("foo")).execute();
+        assertEquals(3, result.consume(LengthItem.class).length);
+        assertEquals(1, runs.get());
+
+        result = chain.createExecutionBuilder("my-app.jar").setCacheDirectory(cacheDir)
+                .produce(new ValueItem("quux")).execute();
+        assertEquals(4, result.consume(LengthItem.class).length);
+        assertEquals(2, runs.get());
+
+        result = chain.createExecutionBuilder("my-app.jar")
+                .produce(new ValueItem("foo")).execute();
+        assertEquals(3, result.consume(LengthItem.class).length);
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testCacheInvalidatedByCodeChange() throws ChainBuildException, BuildException, IOException {
+        final Path cacheDir = Files.createTempDirectory("build-cache");
+        final AtomicInteger runs = new AtomicInteger();
+        final BuildStep step = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                context.produce(new LengthItem(context.consume(ValueItem.class).value.length()));
+            }
+
+            @Override
+            public String toString() {
+                return "length";
+            }
+        };
+        // same step name, different code
+        final BuildStep changedStep = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                context.produce(new LengthItem(context.consume(ValueItem.class).value.trim().length()));
+            }
+
+            @Override
+            public String toString() {
+                return "length";
+            }
+        };
+
+        runCacheable(step, null, cacheDir);
+        assertEquals(1, runs.get());
+        runCacheable(step, null, cacheDir);
+        assertEquals(1, runs.get());
+        runCacheable(changedStep, null, cacheDir);
+        assertEquals(2, runs.get());
+        runCacheable(step, ValueItem.class, cacheDir);
+        assertEquals(3, runs.get());
+
+        // the bytecode of a lambda cannot be read, so it is never cached
+        final BuildStep lambda = context -> {
+            runs.incrementAndGet();
+            context.produce(new LengthItem(context.consume(ValueItem.class).value.length()));
+        };
+        runCacheable(lambda, null, cacheDir);
+        runCacheable(lambda, null, cacheDir);
+        assertEquals(5, runs.get());
+    }
+
+    @Test
+    public void testCachedItemProducedAsSupertype() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(ValueItem.class);
+        final AtomicInteger runs = new AtomicInteger();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                runs.incrementAndGet();
+                context.produce(SizeItem.class, new ExactSizeItem(context.consume(ValueItem.class).value.length()));
+            }
+
+            @Override
+            public String toString() {
+                return "size";
+            }
+        });
+        stepBuilder.consumes(ValueItem.class);
+        stepBuilder.produces(SizeItem.class);
+        stepBuilder.setCacheable(true);
+        stepBuilder.build();
+        builder.addFinal(SizeItem.class);
+        final BuildChain chain = builder.build();
+        final Path cacheDir = Files.createTempDirectory("build-cache");
+
+        for (int i = 0; i < 2; i++) {
+            BuildResult result = chain.createExecutionBuilder("my-app.jar").setCacheDirectory(cacheDir)
+                    .produce(new ValueItem("foo")).execute();
+            assertEquals(3, result.consume(SizeItem.class).size);
+            assertEquals(1, runs.get());
+        }
+    }
+
+    private static void runCacheable(BuildStep step, Class<?> definingClass, Path cacheDir)
+            throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(ValueItem.class);
+        BuildStepBuilder stepBuilder = builder.addBuildStep(step);
+        stepBuilder.consumes(ValueItem.class);
+        stepBuilder.produces(LengthItem.class);
+        stepBuilder.setCacheable(true);
+        if (definingClass != null) {
+            stepBuilder.setDefiningClass(definingClass);
+        }
+        stepBuilder.build();
+        builder.addFinal(LengthItem.class);
+        BuildResult result = builder.build().createExecutionBuilder("my-app.jar").setCacheDirectory(cacheDir)
+                .produce(new ValueItem("foo")).execute();
+        assertEquals(3, result.consume(LengthItem.class).length);
+    }
+
+    @Test
+    public void testTimingReport() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "first";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem.class);
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "second \"quoted\"";
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        final BuildChain chain = builder.build();
+        final Path report = Files.createTempFile("build-timing", ".json");
+        chain.createExecutionBuilder("my-app.jar").setTimingReport(report).execute();
+        final String json = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"step\": \"first\""));
+        assertTrue(json.contains("\"step\": \"second \\\"quoted\\\"\""));
+        assertTrue(json.indexOf("first") < json.indexOf("second"));
+        assertTrue(json.contains("\"priority\": 2"));
+    }
 }
@@ -0,0 +1,25 @@
+package io.quarkus.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public class BuildCacheConfig {
+
+    /**
+     * If the items produced by the build steps marked as cacheable should be persisted and reused by later builds
+     * whose inputs are unchanged.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory in which the items are persisted. Defaults to {@code quarkus-build-cache} in the build output
+     * directory. Point it outside of the build output directory to keep the cache across clean builds.
+     */
+    @ConfigItem
+    public Optional<String> path;
+}
@@ -0,0 +1,24 @@
+package io.quarkus.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public class BuildTimingConfig {
+
+    /**
+     * If a JSON report of the time spent in each build step, and of the thread that ran it, should be written once
+     * the build completes.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The file the report is written to. Defaults to {@code quarkus-build-timing.json} in the build output directory.
+     */
+    @ConfigItem
+    public Optional<String> path;
+}
@@ -524,6 +524,7 @@ public final class ExtensionLoader {
             final String[] archiveMarkers = buildStep.applicationArchiveMarkers();
             final String[] capabilities = buildStep.providesCapabilities();
             final boolean loadsAppClasses = buildStep.loadsApplicationClasses();
+            final boolean cacheable = buildStep.cacheable();
             final Class<? extends BooleanSupplier>[] onlyIf = buildStep.onlyIf();
             final Class<? extends BooleanSupplier>[] onlyIfNot = buildStep.onlyIfNot();
             final Parameter[] methodParameters = method.getParameters();
@@ -981,6 +982,10 @@ public final class ExtensionLoader {
                             bsb.consumes(DeploymentClassLoaderBuildItem.class);
                         }
                         finalStepConfig.accept(bsb);
+                        if (cacheable) {
+                            // what the step produces is determined by the code of the processor, not of this class
+                            bsb.setCacheable(true).setDefiningClass(clazz);
+                        }
                     });
         }
         return chainConfig;
@@ -4,15 +4,19 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.spi.ConfigBuilder;
 import org.jboss.logging.Logger;
 
@@ -126,6 +130,24 @@ public class QuarkusAugmentor {
             for (Path i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            // the build configuration was registered when loading the steps
+            final Config config = ConfigProvider.getConfig(classLoader);
+            if (config.getOptionalValue("quarkus.build-cache.enabled", Boolean.class).orElse(Boolean.FALSE)) {
+                final Optional<String> cachePath = config.getOptionalValue("quarkus.build-cache.path", String.class);
+                if (cachePath.isPresent()) {
+                    execBuilder.setCacheDirectory(Paths.get(cachePath.get()));
+                } else if (targetDir != null) {
+                    execBuilder.setCacheDirectory(targetDir.resolve("quarkus-build-cache"));
+                }
+            }
+            if (config.getOptionalValue("quarkus.build-timing.enabled", Boolean.class).orElse(Boolean.FALSE)) {
+                final Optional<String> timingPath = config.getOptionalValue("quarkus.build-timing.path", String.class);
+                if (timingPath.isPresent()) {
+                    execBuilder.setTimingReport(Paths.get(timingPath.get()));
+                } else if (targetDir != null) {
+                    execBuilder.setTimingReport(targetDir.resolve("quarkus-build-timing.json"));
+                }
+            }
             BuildResult buildResult = execBuilder
                     .execute();
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
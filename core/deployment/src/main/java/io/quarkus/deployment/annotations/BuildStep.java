@@ -120,4 +120,16 @@ public @interface BuildStep {
      * @return <code>true</code> if this build step wants to load deployment classes
      */
     boolean loadsApplicationClasses() default false;
+
+    /**
+     * If this is set to true then the items produced by this build step may be persisted and reused by a later build
+     * whose consumed items are unchanged, when {@code quarkus.build-cache.enabled} is set. The build step must then
+     * produce its items solely as a function of the items it consumes, and all of these items must be
+     * {@link java.io.Serializable}, otherwise the build step is simply run every time.
+     *
+     * The cached items are discarded whenever the bytecode of the class declaring the build step changes.
+     *
+     * @return <code>true</code> if the items produced by this build step may be cached
+     */
+    boolean cacheable() default false;
 }
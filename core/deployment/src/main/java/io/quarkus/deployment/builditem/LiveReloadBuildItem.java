@@ -17,6 +17,7 @@ public final class LiveReloadBuildItem extends SimpleBuildItem {
 
     private final boolean liveReload;
     private final Set<String> changedResources;
+    private final Set<String> changedClasses;
     private final Map<Class<?>, Object> reloadContext;
 
     /**
@@ -25,12 +26,19 @@ public final class LiveReloadBuildItem extends SimpleBuildItem {
     public LiveReloadBuildItem() {
         liveReload = false;
         changedResources = Collections.emptySet();
+        changedClasses = null;
         this.reloadContext = new ConcurrentHashMap<>();
     }
 
     public LiveReloadBuildItem(boolean liveReload, Set<String> changedResources, Map<Class<?>, Object> reloadContext) {
+        this(liveReload, changedResources, null, reloadContext);
+    }
+
+    public LiveReloadBuildItem(boolean liveReload, Set<String> changedResources, Set<String> changedClasses,
+            Map<Class<?>, Object> reloadContext) {
         this.liveReload = liveReload;
         this.changedResources = changedResources;
+        this.changedClasses = changedClasses;
         this.reloadContext = reloadContext;
     }
 
@@ -52,6 +60,19 @@ public final class LiveReloadBuildItem extends SimpleBuildItem {
         return changedResources;
     }
 
+    /**
+     * If this is a live reload this set contains the names of the application classes that have been added, modified
+     * or removed since the previous start. Build steps can use it together with the
+     * {@linkplain #getContextObject(Class) live reload context} to reuse the results of the previous start when none
+     * of the classes they depend on have changed.
+     *
+     * @return the names of the changed classes, or {@code null} if they are not known, in which case all classes must be
+     *         considered changed
+     */
+    public Set<String> getChangedClasses() {
+        return changedClasses;
+    }
+
     /**
      * Gets an object from live reload context that is persistent across restarts
      *
@@ -19,8 +19,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -43,6 +47,7 @@ import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -58,6 +63,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -68,6 +75,23 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * If the Jandex indexes computed for dependencies that are not indexed yet should be persisted and reused
+         * across builds.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory in which the computed indexes are persisted. Defaults to {@code quarkus-index-cache} in the
+         * build output directory. Point it outside of the build output directory to keep the cache across clean builds.
+         */
+        @ConfigItem
+        Optional<String> path;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -81,7 +105,8 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext, OutputTargetBuildItem outputTarget, Executor executor)
+            throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -90,12 +115,17 @@ public class ApplicationArchiveBuildStep {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            PersistentIndexCache persistentCache = null;
+            if (indexCacheConfig.enabled) {
+                persistentCache = new PersistentIndexCache(indexCacheConfig.path.map(Paths::get)
+                        .orElseGet(() -> outputTarget.getOutputDirectory().resolve("quarkus-index-cache")));
+            }
+            indexCache = new IndexCache(persistentCache);
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
-                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
+                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache, executor);
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getArchiveRoot(), null, false, root.getArchiveLocation()),
                 applicationArchives);
@@ -103,7 +133,7 @@ public class ApplicationArchiveBuildStep {
 
     private List<ApplicationArchive> scanForOtherIndexes(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache)
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache, Executor executor)
             throws IOException {
         Set<Path> dependenciesToIndex = new HashSet<>();
         //get paths that are included via index-dependencies
@@ -120,7 +150,7 @@ public class ApplicationArchiveBuildStep {
             dependenciesToIndex.add(i.getPath());
         }
 
-        return indexPaths(dependenciesToIndex, classLoader, indexCache);
+        return indexPaths(dependenciesToIndex, classLoader, indexCache, executor);
     }
 
     public List<Path> getIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
@@ -150,25 +180,60 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
-            IndexCache indexCache)
+            IndexCache indexCache, Executor executor)
             throws IOException {
         List<ApplicationArchive> ret = new ArrayList<>();
 
+        // jars that are not indexed yet are indexed in parallel on the build executor
+        Map<Path, FutureTask<Index>> jarIndexes = new HashMap<>();
         for (final Path dep : dependenciesToIndex) {
             LOGGER.debugf("Indexing dependency: %s", dep);
-            if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
-            } else {
-                IndexView index = handleJarPath(dep, indexCache);
-                FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
-                ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
+            if (!Files.isDirectory(dep)) {
+                FutureTask<Index> task = new FutureTask<>(() -> handleJarPath(dep, indexCache));
+                jarIndexes.put(dep, task);
+                executor.execute(task);
+            }
+        }
+
+        try {
+            for (final Path dep : dependenciesToIndex) {
+                if (Files.isDirectory(dep)) {
+                    IndexView indexView = handleFilePath(dep);
+                    ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
+                } else {
+                    IndexView index = getIndex(jarIndexes.get(dep));
+                    FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
+                    ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
+                }
+            }
+        } finally {
+            for (FutureTask<Index> task : jarIndexes.values()) {
+                task.cancel(false);
             }
         }
 
         return ret;
     }
 
+    private static Index getIndex(FutureTask<Index> task) throws IOException {
+        // the build executor may be busy with other steps, so index the jar here if no thread has picked it up yet
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while indexing dependencies", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
     private static Collection<? extends Path> getMarkerFilePaths(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root)
             throws IOException {
@@ -246,30 +311,44 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+        Index index = indexCache.cache.get(path);
+        if (index != null) {
+            return index;
+        }
+        index = readJarIndex(path, indexCache.persistentCache);
+        Index existing = indexCache.cache.putIfAbsent(path, index);
+        return existing != null ? existing : index;
+    }
+
+    private static Index readJarIndex(Path path, PersistentIndexCache persistentCache) throws IOException {
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() >= REQUIRED_INDEX_VERSION) {
+                        return reader.read();
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
+                    LOGGER.warnf(
+                            "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                            path);
+                }
+            }
+            if (persistentCache != null) {
+                Index index = persistentCache.read(path);
+                if (index != null) {
+                    LOGGER.debugf("Reusing persisted index of %s", path);
+                    return index;
                 }
             }
-        });
+            Index index = indexJar(file);
+            if (persistentCache != null) {
+                persistentCache.write(path, index);
+            }
+            return index;
+        } catch (IOException e) {
+            throw new IOException("Failed to process " + path, e);
+        }
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -289,10 +368,17 @@ public class ApplicationArchiveBuildStep {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * Indexes computed for jars that do not ship one are also persisted across builds, if enabled.
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
 
+        final PersistentIndexCache persistentCache;
+
+        IndexCache(PersistentIndexCache persistentCache) {
+            this.persistentCache = persistentCache;
+        }
     }
 }
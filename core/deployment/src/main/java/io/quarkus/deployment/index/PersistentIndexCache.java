@@ -0,0 +1,181 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * An on-disk store of the Jandex indexes computed for dependency jars that do not ship a {@code META-INF/jandex.idx}.
+ * <p>
+ * Entries are keyed by the jar path and validated against its size and a hash of its zip central directory, which
+ * holds the CRC of every entry, so that a jar rewritten with the same size and modification time is still detected
+ * without reading all of it. Jars whose central directory cannot be located are hashed entirely.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read the index stored for the given jar.
+     *
+     * @param jar the jar path
+     * @return the index, or {@code null} if there is no valid entry for the jar
+     */
+    Index read(Path jar) {
+        final Path entry = entryPath(jar);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(jar.toAbsolutePath().toString())) {
+                return null;
+            }
+            final long size = in.readLong();
+            final String hash = in.readUTF();
+            if (size != Files.size(jar) || !hash.equals(hash(jar))) {
+                return null;
+            }
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Discarding unreadable index cache entry %s for %s", entry, jar);
+            return null;
+        }
+    }
+
+    /**
+     * Store the index computed for the given jar.
+     *
+     * @param jar the jar path
+     * @param index the index of the jar
+     */
+    void write(Path jar, Index index) {
+        try {
+            write(jar, index, hash(jar));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to hash %s", jar);
+        }
+    }
+
+    private void write(Path jar, Index index, String hash) {
+        try {
+            Files.createDirectories(directory);
+            final Path tmp = Files.createTempFile(directory, "index", ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(jar.toAbsolutePath().toString());
+                    out.writeLong(Files.size(jar));
+                    out.writeUTF(hash);
+                    new IndexWriter(out).write(index);
+                }
+                Files.move(tmp, entryPath(jar), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to write the index cache entry for %s", jar);
+        }
+    }
+
+    private Path entryPath(Path jar) {
+        final MessageDigest digest = newDigest();
+        return directory.resolve(
+                toHex(digest.digest(jar.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8))) + SUFFIX);
+    }
+
+    private static String hash(Path jar) throws IOException {
+        final MessageDigest digest = newDigest();
+        try (SeekableByteChannel channel = Files.newByteChannel(jar)) {
+            final ByteBuffer centralDirectory = readCentralDirectory(channel);
+            if (centralDirectory != null) {
+                digest.update(centralDirectory);
+                return toHex(digest.digest());
+            }
+        }
+        final byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @return the zip central directory of the jar, or {@code null} if it cannot be located, e.g. for a zip64 archive
+     */
+    private static ByteBuffer readCentralDirectory(SeekableByteChannel channel) throws IOException {
+        // the end of central directory record is 22 bytes long, followed by a comment of up to 64k
+        final long size = channel.size();
+        final int tailLength = (int) Math.min(size, 22 + 0xffff);
+        final ByteBuffer tail = ByteBuffer.allocate(tailLength).order(ByteOrder.LITTLE_ENDIAN);
+        channel.position(size - tailLength);
+        readFully(channel, tail);
+        for (int i = tailLength - 22; i >= 0; i--) {
+            if (tail.getInt(i) == 0x06054b50) {
+                final long length = tail.getInt(i + 12) & 0xffffffffL;
+                final long offset = tail.getInt(i + 16) & 0xffffffffL;
+                if (length == 0xffffffffL || offset == 0xffffffffL || offset + length > size) {
+                    return null;
+                }
+                final ByteBuffer centralDirectory = ByteBuffer.allocate((int) length);
+                channel.position(offset);
+                readFully(channel, centralDirectory);
+                return centralDirectory;
+            }
+        }
+        return null;
+    }
+
+    private static void readFully(SeekableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+}
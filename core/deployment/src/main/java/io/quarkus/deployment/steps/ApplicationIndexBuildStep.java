@@ -7,18 +7,46 @@ import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
 
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 
 public class ApplicationIndexBuildStep {
 
+    private static final Logger log = Logger.getLogger(ApplicationIndexBuildStep.class);
+
     @BuildStep
-    ApplicationIndexBuildItem build(ArchiveRootBuildItem root) throws IOException {
+    ApplicationIndexBuildItem build(ArchiveRootBuildItem root, LiveReloadBuildItem liveReload) throws IOException {
+
+        PreviousIndex previous = liveReload.getContextObject(PreviousIndex.class);
+        Set<String> changedClasses = liveReload.getChangedClasses();
+        if (previous != null && liveReload.isLiveReload() && changedClasses != null
+                && previous.root.equals(root.getArchiveRoot())) {
+            Index appIndex;
+            if (changedClasses.isEmpty()) {
+                log.debug("No application class changed, reusing the application index");
+                appIndex = previous.index;
+            } else {
+                log.debugf("Updating the application index for %s changed classes", changedClasses.size());
+                appIndex = update(previous.index, root.getArchiveRoot(), changedClasses);
+            }
+            liveReload.setContextObject(PreviousIndex.class, new PreviousIndex(root.getArchiveRoot(), appIndex));
+            return new ApplicationIndexBuildItem(appIndex);
+        }
 
         Indexer indexer = new Indexer();
         Files.walkFileTree(root.getArchiveRoot(), new FileVisitor<Path>() {
@@ -48,7 +76,62 @@ public class ApplicationIndexBuildStep {
             }
         });
         Index appIndex = indexer.complete();
+        liveReload.setContextObject(PreviousIndex.class, new PreviousIndex(root.getArchiveRoot(), appIndex));
         return new ApplicationIndexBuildItem(appIndex);
     }
 
+    /**
+     * Re-indexes the given classes only, and keeps the other classes of the previous index. Removed classes are
+     * dropped.
+     */
+    static Index update(Index previous, Path root, Set<String> changedClasses) throws IOException {
+        Indexer indexer = new Indexer();
+        for (String changedClass : changedClasses) {
+            Path file = root.resolve(changedClass.replace('.', '/') + ".class");
+            if (Files.isRegularFile(file)) {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    indexer.index(stream);
+                }
+            }
+        }
+        List<ClassInfo> classes = new ArrayList<>(indexer.complete().getKnownClasses());
+        for (ClassInfo clazz : previous.getKnownClasses()) {
+            if (!changedClasses.contains(clazz.name().toString())) {
+                classes.add(clazz);
+            }
+        }
+        // The same maps as the ones built by the Indexer
+        Map<DotName, List<AnnotationInstance>> annotations = new HashMap<>();
+        Map<DotName, List<ClassInfo>> subclasses = new HashMap<>();
+        Map<DotName, List<ClassInfo>> implementors = new HashMap<>();
+        Map<DotName, ClassInfo> classesByName = new HashMap<>();
+        for (ClassInfo clazz : classes) {
+            classesByName.put(clazz.name(), clazz);
+            for (Map.Entry<DotName, List<AnnotationInstance>> entry : clazz.annotations().entrySet()) {
+                annotations.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            if (clazz.superName() != null) {
+                subclasses.computeIfAbsent(clazz.superName(), k -> new ArrayList<>()).add(clazz);
+            }
+            for (DotName interfaceName : clazz.interfaceNames()) {
+                implementors.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(clazz);
+            }
+        }
+        return Index.create(annotations, subclasses, implementors, classesByName);
+    }
+
+    /**
+     * The application index computed by the previous start, kept in the live reload context.
+     */
+    static final class PreviousIndex {
+
+        final Path root;
+        final Index index;
+
+        PreviousIndex(Path root, Index index) {
+            this.root = root;
+            this.index = index;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+public class PersistentIndexCacheTestCase {
+
+    @Test
+    public void testReadWrite() throws IOException {
+        Path dir = Files.createTempDirectory("index-cache");
+        Path jar = dir.resolve("test.jar");
+        writeJar(jar, PersistentIndexCacheTestCase.class);
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        assertNull(cache.read(jar));
+
+        cache.write(jar, index(PersistentIndexCacheTestCase.class));
+        Index index = new PersistentIndexCache(dir.resolve("cache")).read(jar);
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTestCase.class.getName())));
+    }
+
+    @Test
+    public void testTouchedJarIsStillValid() throws IOException {
+        Path dir = Files.createTempDirectory("index-cache");
+        Path jar = dir.resolve("test.jar");
+        writeJar(jar, PersistentIndexCacheTestCase.class);
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        cache.write(jar, index(PersistentIndexCacheTestCase.class));
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNotNull(cache.read(jar));
+    }
+
+    @Test
+    public void testModifiedJarIsInvalidated() throws IOException {
+        Path dir = Files.createTempDirectory("index-cache");
+        Path jar = dir.resolve("test.jar");
+        writeJar(jar, PersistentIndexCacheTestCase.class);
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        cache.write(jar, index(PersistentIndexCacheTestCase.class));
+
+        writeJar(jar, PersistentIndexCache.class);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNull(cache.read(jar));
+    }
+
+    @Test
+    public void testSameSizeAndTimestampWithDifferentContentIsInvalidated() throws IOException {
+        Path dir = Files.createTempDirectory("index-cache");
+        Path jar = dir.resolve("test.jar");
+        writeStoredJar(jar, (byte) 'a');
+
+        PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+        cache.write(jar, index(PersistentIndexCacheTestCase.class));
+        assertNotNull(cache.read(jar));
+        long size = Files.size(jar);
+        FileTime lastModified = Files.getLastModifiedTime(jar);
+
+        writeStoredJar(jar, (byte) 'b');
+        Files.setLastModifiedTime(jar, lastModified);
+        assertEquals(size, Files.size(jar));
+        assertNull(cache.read(jar));
+    }
+
+    private static void writeStoredJar(Path jar, byte content) throws IOException {
+        byte[] data = new byte[64];
+        Arrays.fill(data, content);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        JarEntry entry = new JarEntry("data.txt");
+        entry.setMethod(JarEntry.STORED);
+        entry.setSize(data.length);
+        entry.setCrc(crc.getValue());
+        entry.setTime(0);
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(entry);
+            jarOut.write(data);
+            jarOut.closeEntry();
+        }
+    }
+
+    private static void writeJar(Path jar, Class<?> clazz) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry(name));
+            try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    jarOut.write(buffer, 0, read);
+                }
+            }
+            jarOut.closeEntry();
+        }
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}
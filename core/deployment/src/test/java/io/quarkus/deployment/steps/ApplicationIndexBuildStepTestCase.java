@@ -0,0 +1,84 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+public class ApplicationIndexBuildStepTestCase {
+
+    @Test
+    public void testUpdate() throws IOException {
+        Path root = Files.createTempDirectory("app-index");
+        copy(Base.class, root);
+        copy(Removed.class, root);
+        Indexer indexer = new Indexer();
+        index(Base.class, indexer);
+        index(Removed.class, indexer);
+        Index previous = indexer.complete();
+
+        Files.delete(classFile(Removed.class, root));
+        copy(Added.class, root);
+        Index updated = ApplicationIndexBuildStep.update(previous, root,
+                new HashSet<>(Arrays.asList(Removed.class.getName(), Added.class.getName())));
+
+        DotName base = DotName.createSimple(Base.class.getName());
+        DotName added = DotName.createSimple(Added.class.getName());
+        assertEquals(2, updated.getKnownClasses().size());
+        assertNotNull(updated.getClassByName(base));
+        assertNotNull(updated.getClassByName(added));
+        assertNull(updated.getClassByName(DotName.createSimple(Removed.class.getName())));
+        assertEquals(1, updated.getKnownDirectSubclasses(base).size());
+        assertEquals(added, updated.getKnownDirectSubclasses(base).iterator().next().name());
+        assertEquals(1, updated.getAnnotations(DotName.createSimple(Deprecated.class.getName())).size());
+        assertEquals(1, updated.getKnownDirectImplementors(DotName.createSimple(Runnable.class.getName())).size());
+    }
+
+    private static void copy(Class<?> clazz, Path root) throws IOException {
+        Path file = classFile(clazz, root);
+        Files.createDirectories(file.getParent());
+        try (InputStream stream = open(clazz)) {
+            Files.copy(stream, file);
+        }
+    }
+
+    private static void index(Class<?> clazz, Indexer indexer) throws IOException {
+        try (InputStream stream = open(clazz)) {
+            indexer.index(stream);
+        }
+    }
+
+    private static Path classFile(Class<?> clazz, Path root) {
+        return root.resolve(clazz.getName().replace('.', '/') + ".class");
+    }
+
+    private static InputStream open(Class<?> clazz) {
+        return clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+    }
+
+    static class Base {
+    }
+
+    static class Removed extends Base {
+    }
+
+    @Deprecated
+    static class Added extends Base implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+}
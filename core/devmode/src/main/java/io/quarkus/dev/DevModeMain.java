@@ -92,7 +92,7 @@ public class DevModeMain implements Closeable {
         }
         //TODO: we can't handle an exception on startup with hot replacement, as Undertow might not have started
 
-        doStart(false, Collections.emptySet());
+        doStart(false, Collections.emptySet(), null);
         if (deploymentProblem != null || compileProblem != null) {
             if (context.isAbortOnFailedStart()) {
                 throw new RuntimeException(deploymentProblem == null ? compileProblem : deploymentProblem);
@@ -122,7 +122,7 @@ public class DevModeMain implements Closeable {
 
     }
 
-    private synchronized void doStart(boolean liveReload, Set<String> changedResources) {
+    private synchronized void doStart(boolean liveReload, Set<String> changedResources, Set<String> changedClasses) {
         try {
             final URL[] urls = new URL[context.getClassesRoots().size()];
             for (int i = 0; i < context.getClassesRoots().size(); i++) {
@@ -136,7 +136,8 @@ public class DevModeMain implements Closeable {
                 Thread.currentThread().setContextClassLoader(runtimeCl);
                 RuntimeRunner.Builder builder = RuntimeRunner.builder()
                         .setLaunchMode(LaunchMode.DEVELOPMENT)
-                        .setLiveReloadState(new LiveReloadBuildItem(liveReload, changedResources, liveReloadContext))
+                        .setLiveReloadState(
+                                new LiveReloadBuildItem(liveReload, changedResources, changedClasses, liveReloadContext))
                         .setClassLoader(runtimeCl)
                         // just use the first item in classesRoot which is where the actual class files are written
                         .setTarget(context.getClassesRoots().get(0).toPath())
@@ -202,9 +203,13 @@ public class DevModeMain implements Closeable {
     }
 
     public synchronized void restartApp(Set<String> changedResources) {
+        restartApp(changedResources, null);
+    }
+
+    public synchronized void restartApp(Set<String> changedResources, Set<String> changedClasses) {
         stop();
         Timing.restart();
-        doStart(true, changedResources);
+        doStart(true, changedResources, changedClasses);
     }
 
     public static ClassLoader getCurrentAppClassLoader() {
@@ -273,6 +278,13 @@ public class DevModeMain implements Closeable {
             for (HotReplacementSetup i : hotReplacement) {
                 i.close();
             }
+            if (runtimeUpdatesProcessor != null) {
+                try {
+                    runtimeUpdatesProcessor.close();
+                } catch (IOException e) {
+                    log.error("Failed to close the runtime updates processor", e);
+                }
+            }
         }
     }
 }
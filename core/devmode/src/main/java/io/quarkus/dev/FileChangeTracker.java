@@ -0,0 +1,271 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Tracks changes to a set of directory trees using a {@link WatchService}, so that a scan only needs to walk
+ * a tree when something in it has actually changed.
+ * <p>
+ * The watch service delivers events asynchronously, so before each scan, in {@link #sync()}, the tracker creates a
+ * marker file in a directory of its own and drains the events until the one of the marker is received. The events of
+ * a watch service are delivered in order, so every change made before the scan has been seen by then. If the marker
+ * event is not received in time, all the roots are considered dirty. This ordering is only guaranteed by the inotify based watch
+ * service, so the tracker is only used on Linux.
+ * <p>
+ * Roots start out dirty, so the first scan of every root always walks it. A root is also considered dirty if the
+ * watch service reported an overflow. If a directory of a root could not be registered, e.g. because the inotify watch
+ * limit is reached, the root is no longer tracked and is considered dirty on every scan.
+ */
+final class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class);
+
+    /**
+     * System property that disables the watch service and falls back to walking every directory on each scan.
+     */
+    static final String DISABLE_PROPERTY = "quarkus.dev.disable-file-watch";
+
+    private static final long SYNC_TIMEOUT_MILLIS = 500;
+
+    private final WatchService watchService;
+    private final Path syncDir;
+    private final WatchKey syncKey;
+    private long syncSequence;
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    private final Map<Path, AtomicBoolean> roots = new ConcurrentHashMap<>();
+    // roots with directories that could not be registered, changes in them may go unnoticed
+    private final Set<Path> untrackedRoots = ConcurrentHashMap.newKeySet();
+    // the maximum number of watched directories, only lowered by tests to simulate the inotify limit
+    int watchLimit = Integer.MAX_VALUE;
+
+    private FileChangeTracker(WatchService watchService, Path syncDir, WatchKey syncKey) {
+        this.watchService = watchService;
+        this.syncDir = syncDir;
+        this.syncKey = syncKey;
+    }
+
+    /**
+     * Create a tracker backed by the native watch service of the default file system.
+     *
+     * @return the tracker, or {@code null} if the platform does not offer an inotify based watch service or tracking is
+     *         disabled
+     */
+    static FileChangeTracker create() {
+        if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+            return null;
+        }
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            if (!watchService.getClass().getName().contains("Linux")) {
+                // events may be delayed (polling) or not ordered across directories, we could not rely on them
+                watchService.close();
+                return null;
+            }
+            try {
+                Path syncDir = Files.createTempDirectory("quarkus-dev-watch");
+                return new FileChangeTracker(watchService, syncDir, syncDir.register(watchService, ENTRY_CREATE));
+            } catch (IOException e) {
+                watchService.close();
+                throw e;
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to create a watch service, falling back to directory scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * Start tracking the directory tree under the given root. Does nothing if the root is already tracked, or if it
+     * does not exist yet, in which case it will be scanned every time until it is tracked.
+     *
+     * @param root the root directory
+     */
+    void track(Path root) {
+        root = root.toAbsolutePath().normalize();
+        if (!roots.containsKey(root) && Files.isDirectory(root)
+                && roots.putIfAbsent(root, new AtomicBoolean(true)) == null) {
+            register(root);
+        }
+    }
+
+    /**
+     * Processes the events of all the changes made before this call. Must be called once at the start of each scan,
+     * before the roots are {@linkplain #checkAndReset(Path) checked}. If the tracker cannot make sure it has received
+     * these events, all the roots are considered changed.
+     */
+    synchronized void sync() {
+        if (!awaitEvents()) {
+            for (AtomicBoolean dirty : roots.values()) {
+                dirty.set(true);
+            }
+        }
+    }
+
+    /**
+     * Returns whether anything under the given root changed since the previous call for this root, as of the last
+     * {@link #sync()}, and resets its state. Roots that are not tracked, or not entirely, are always considered
+     * changed.
+     *
+     * @param root the root directory
+     * @return {@code true} if the root must be scanned
+     */
+    boolean checkAndReset(Path root) {
+        root = root.toAbsolutePath().normalize();
+        AtomicBoolean dirty = roots.get(root);
+        if (dirty == null || untrackedRoots.contains(root)) {
+            return true;
+        }
+        return dirty.getAndSet(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        Files.deleteIfExists(syncDir);
+    }
+
+    /**
+     * Processes the events of all the changes made before this call.
+     *
+     * @return {@code false} if the events could not be received in time
+     */
+    private boolean awaitEvents() {
+        String marker = "sync-" + (++syncSequence);
+        try {
+            Path markerFile = Files.createFile(syncDir.resolve(marker));
+            Files.delete(markerFile);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to create a marker file in %s", syncDir);
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SYNC_TIMEOUT_MILLIS);
+        try {
+            for (;;) {
+                long remaining = deadline - System.nanoTime();
+                WatchKey key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (key == null) {
+                    log.debug("Timed out waiting for the watch service events");
+                    return false;
+                }
+                if (processKey(key, marker)) {
+                    // the key of the marker may have been queued before the keys of earlier events
+                    processEvents();
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ClosedWatchServiceException e) {
+            return false;
+        }
+    }
+
+    private void register(Path dir) {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) throws IOException {
+                    if (keys.size() >= watchLimit) {
+                        throw new IOException("Watch limit reached");
+                    }
+                    keys.put(d.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), d);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.debugf(e, "Failed to watch %s, its changes will be detected by scanning it", dir);
+            // changes in the directories that are not registered would go unnoticed, the roots must always be scanned
+            for (Path root : roots.keySet()) {
+                if (dir.startsWith(root)) {
+                    untrackedRoots.add(root);
+                }
+            }
+        }
+    }
+
+    private void processEvents() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            processKey(key, null);
+        }
+    }
+
+    /**
+     * @return {@code true} if the key reported the creation of the given marker file
+     */
+    private boolean processKey(WatchKey key, String marker) {
+        boolean markerSeen = false;
+        if (key == syncKey) {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (marker != null && event.context() != null && marker.equals(event.context().toString())) {
+                    markerSeen = true;
+                }
+            }
+            key.reset();
+            return markerSeen;
+        }
+        Path dir = keys.get(key);
+        if (dir != null) {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // events were lost, we do not know what changed
+                    for (AtomicBoolean dirty : roots.values()) {
+                        dirty.set(true);
+                    }
+                } else if (event.kind() == ENTRY_CREATE) {
+                    Path created = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(created)) {
+                        register(created);
+                    }
+                }
+            }
+            markDirty(dir);
+        }
+        if (!key.reset()) {
+            keys.remove(key);
+            if (dir != null) {
+                // the directory is gone, if it was a root it must be tracked again once it is re-created
+                roots.remove(dir);
+                untrackedRoots.remove(dir);
+            }
+        }
+        return false;
+    }
+
+    private void markDirty(Path path) {
+        for (Map.Entry<Path, AtomicBoolean> root : roots.entrySet()) {
+            if (path.startsWith(root.getKey())) {
+                root.getValue().set(true);
+            }
+        }
+    }
+}
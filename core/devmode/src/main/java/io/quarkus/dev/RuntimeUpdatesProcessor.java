@@ -3,6 +3,7 @@ package io.quarkus.dev;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -31,7 +32,7 @@ import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.deployment.devmode.HotReplacementSetup;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
     private static final String CLASS_EXTENSION = ".class";
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
@@ -54,6 +55,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final Map<Path, Long> watchedFileTimestamps = new ConcurrentHashMap<>();
     private final Map<Path, Long> classFileChangeTimeStamps = new ConcurrentHashMap<>();
     private final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
+    /**
+     * The names of the classes that were added, modified or removed during the last scan.
+     */
+    private final Set<String> changedClasses = ConcurrentHashMap.newKeySet();
 
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
@@ -65,11 +70,17 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final List<Consumer<Set<String>>> noRestartChangesConsumers = new CopyOnWriteArrayList<>();
     private final List<HotReplacementSetup> hotReplacementSetup = new ArrayList<>();
     private final DevModeMain devModeMain;
+    /**
+     * Used to avoid walking directories in which nothing changed, {@code null} if every directory must be walked on each
+     * scan.
+     */
+    private final FileChangeTracker fileChangeTracker;
 
     public RuntimeUpdatesProcessor(DevModeContext context, ClassLoaderCompiler compiler, DevModeMain devModeMain) {
         this.context = context;
         this.compiler = compiler;
         this.devModeMain = devModeMain;
+        this.fileChangeTracker = FileChangeTracker.create();
     }
 
     @Override
@@ -120,6 +131,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             }
         }
 
+        if (fileChangeTracker != null) {
+            // once per scan, the roots are then checked without waiting for the watch service
+            fileChangeTracker.sync();
+        }
         boolean classChanged = checkForChangedClasses();
         Set<String> filesChanged = checkForFileChange();
 
@@ -128,12 +143,19 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         //in an ideal world we would just check every resource file for changes, however as everything is already
         //all broken we just assume the reason that they have refreshed is because they have fixed something
         //trying to watch all resource files is complex and this is likely a good enough solution for what is already an edge case
-        boolean restartNeeded = classChanged || (DevModeMain.deploymentProblem != null && userInitiated);
+        //the classes changed by a scan that did not restart, e.g. because another module failed to compile, are kept
+        //until a restart uses them, their files no longer look recently modified
+        boolean restartNeeded = classChanged || (!changedClasses.isEmpty() && DevModeMain.compileProblem == null)
+                || (DevModeMain.deploymentProblem != null && userInitiated);
         if (!restartNeeded && !filesChanged.isEmpty()) {
             restartNeeded = filesChanged.stream().map(watchedFilePaths::get).anyMatch(Boolean.TRUE::equals);
         }
         if (restartNeeded) {
-            devModeMain.restartApp(filesChanged);
+            //if the previous start failed we cannot know what the build steps saw, so everything is considered changed
+            Set<String> restartChangedClasses = new HashSet<>(changedClasses);
+            devModeMain.restartApp(filesChanged,
+                    DevModeMain.deploymentProblem != null ? null : restartChangedClasses);
+            changedClasses.removeAll(restartChangedClasses);
             log.infof("Hot replace total time: %ss ", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds));
             return true;
         } else if (!filesChanged.isEmpty()) {
@@ -166,8 +188,13 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            boolean sourcesModified = false;
 
             for (String sourcePath : module.getSourcePaths()) {
+                if (!needsScan(Paths.get(sourcePath))) {
+                    continue;
+                }
+                sourcesModified = true;
                 final Set<File> changedSourceFiles;
                 try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
                     changedSourceFiles = sourcesStream
@@ -196,7 +223,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, sourcesModified,
+                    ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
         }
@@ -206,7 +234,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            boolean sourcesModified, boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -216,6 +244,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         try {
             for (String folder : module.getClassesPath().split(File.pathSeparator)) {
                 final Path moduleClassesPath = Paths.get(folder);
+                //a deleted source file only shows up as a class file without source, so we also walk if sources changed
+                if (!needsScan(moduleClassesPath) && !sourcesModified) {
+                    continue;
+                }
                 try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
@@ -226,25 +258,30 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
                         final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
                                 module);
 
+                        boolean classChanged = false;
                         if (sourceFilePath != null) {
                             if (!sourceFilePath.toFile().exists()) {
                                 // Source file has been deleted. Delete class and restart
                                 cleanUpClassFile(classFilePath);
                                 sourceFileTimestamps.remove(sourceFilePath);
-                                hasChanges = true;
+                                classChanged = true;
                             } else {
                                 classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
                                 if (classFileWasRecentModified(classFilePath, isInitialRun)) {
                                     // At least one class was recently modified. Restart.
-                                    hasChanges = true;
+                                    classChanged = true;
                                 } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
                                     // Source file has been modified, we delete the .class files as they are going to
                                     // be recompiled anyway, this allows for simple cleanup of inner classes
                                     cleanUpClassFile(classFilePath);
-                                    hasChanges = true;
+                                    classChanged = true;
                                 }
                             }
                         } else if (classFileWasRecentModified(classFilePath, isInitialRun)) {
+                            classChanged = true;
+                        }
+                        if (classChanged) {
+                            changedClasses.add(toClassName(moduleClassesPath, classFilePath));
                             hasChanges = true;
                         }
                     }
@@ -257,6 +294,12 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return hasChanges;
     }
 
+    private static String toClassName(Path classesPath, Path classFilePath) {
+        String relative = classesPath.relativize(classFilePath).toString();
+        relative = relative.substring(0, relative.length() - CLASS_EXTENSION.length());
+        return relative.replace(File.separatorChar, '.');
+    }
+
     private Path retrieveSourceFilePathForClassFile(Path classFilePath, List<Path> moduleChangedSourceFiles,
             DevModeContext.ModuleInfo module) {
         Path sourceFilePath = classFilePathToSourceFilePath.get(classFilePath);
@@ -305,7 +348,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             }
             Path classesDir = Paths.get(module.getClassesPath());
             //copy all modified non hot deployment files over
-            if (doCopy) {
+            if (doCopy && needsScan(root)) {
                 try {
                     final Set<Path> seen = new HashSet<>(moduleResources);
                     //since the stream is Closeable, use a try with resources so the underlying iterator is closed
@@ -382,6 +425,17 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return ret;
     }
 
+    /**
+     * Returns whether the given directory may contain changes since it was last scanned, resetting its state.
+     */
+    private boolean needsScan(Path root) {
+        if (fileChangeTracker == null) {
+            return true;
+        }
+        fileChangeTracker.track(root);
+        return fileChangeTracker.checkAndReset(root);
+    }
+
     private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges) {
         return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges);
     }
@@ -452,4 +506,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         }
     }
 
+    @Override
+    public void close() throws IOException {
+        if (fileChangeTracker != null) {
+            fileChangeTracker.close();
+        }
+    }
 }
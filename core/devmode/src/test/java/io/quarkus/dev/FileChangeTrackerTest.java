@@ -0,0 +1,118 @@
+package io.quarkus.dev;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FileChangeTrackerTest {
+
+    @BeforeEach
+    void onlyOnLinux() {
+        // the tracker is only used where the watch service delivers its events in order
+        assumeTrue(System.getProperty("os.name").toLowerCase().contains("linux"));
+    }
+
+    @Test
+    void detectsChangesInNestedDirectories() throws Exception {
+        FileChangeTracker tracker = FileChangeTracker.create();
+        assertNotNull(tracker);
+        try {
+            Path root = Files.createTempDirectory("tracker");
+            tracker.track(root);
+            tracker.sync();
+            assertTrue(tracker.checkAndReset(root), "a root must be scanned at least once");
+            tracker.sync();
+            assertFalse(tracker.checkAndReset(root));
+
+            // changes made right before a scan must be seen by that scan
+            Path nested = Files.createDirectories(root.resolve("a/b"));
+            tracker.sync();
+            assertTrue(tracker.checkAndReset(root));
+            tracker.sync();
+            assertFalse(tracker.checkAndReset(root));
+
+            Files.write(nested.resolve("Foo.java"), "class Foo {}".getBytes(StandardCharsets.UTF_8));
+            tracker.sync();
+            assertTrue(tracker.checkAndReset(root));
+            tracker.sync();
+            assertFalse(tracker.checkAndReset(root));
+
+            for (int i = 0; i < 20; i++) {
+                Files.write(nested.resolve("Foo.java"), ("class Foo { int i" + i + "; }").getBytes(StandardCharsets.UTF_8));
+                tracker.sync();
+                assertTrue(tracker.checkAndReset(root), "change " + i + " missed");
+            }
+        } finally {
+            tracker.close();
+        }
+    }
+
+    @Test
+    void checksSeveralRootsWithOneSync() throws Exception {
+        FileChangeTracker tracker = FileChangeTracker.create();
+        assertNotNull(tracker);
+        try {
+            Path first = Files.createTempDirectory("tracker");
+            Path second = Files.createTempDirectory("tracker");
+            tracker.track(first);
+            tracker.track(second);
+            tracker.sync();
+            assertTrue(tracker.checkAndReset(first));
+            assertTrue(tracker.checkAndReset(second));
+
+            Files.write(second.resolve("Foo.java"), "class Foo {}".getBytes(StandardCharsets.UTF_8));
+            tracker.sync();
+            assertFalse(tracker.checkAndReset(first));
+            assertTrue(tracker.checkAndReset(second));
+        } finally {
+            tracker.close();
+        }
+    }
+
+    @Test
+    void rootsThatCannotBeFullyWatchedAreAlwaysScanned() throws Exception {
+        FileChangeTracker tracker = FileChangeTracker.create();
+        assertNotNull(tracker);
+        try {
+            Path root = Files.createTempDirectory("tracker");
+            Path nested = Files.createDirectories(root.resolve("a/b"));
+            // only the root and a can be registered, as if the inotify limit was reached
+            tracker.watchLimit = 2;
+            tracker.track(root);
+            for (int i = 0; i < 3; i++) {
+                tracker.sync();
+                assertTrue(tracker.checkAndReset(root), "scan " + i);
+            }
+            Files.write(nested.resolve("Foo.java"), "class Foo {}".getBytes(StandardCharsets.UTF_8));
+            tracker.sync();
+            assertTrue(tracker.checkAndReset(root));
+        } finally {
+            tracker.close();
+        }
+    }
+
+    @Test
+    void untrackedRootsAreAlwaysScanned() throws IOException {
+        FileChangeTracker tracker = FileChangeTracker.create();
+        assertNotNull(tracker);
+        try {
+            Path root = Files.createTempDirectory("tracker");
+            assertTrue(tracker.checkAndReset(root));
+            assertTrue(tracker.checkAndReset(root));
+            tracker.track(root.resolve("missing"));
+            assertTrue(tracker.checkAndReset(root.resolve("missing")));
+            assertTrue(tracker.checkAndReset(root.resolve("missing")));
+        } finally {
+            tracker.close();
+        }
+    }
+}
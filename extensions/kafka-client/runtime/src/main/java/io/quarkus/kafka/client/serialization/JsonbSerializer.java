@@ -1,7 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -13,6 +12,16 @@ import org.apache.kafka.common.serialization.Serializer;
  */
 public class JsonbSerializer<T> implements Serializer<T> {
 
+    private static final int MAX_REUSED_BUFFER_SIZE = 64 * 1024;
+
+    // The output buffer is reused by the subsequent records serialized by the same thread
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = new ThreadLocal<ByteArrayOutputStream>() {
+        @Override
+        protected ByteArrayOutputStream initialValue() {
+            return new ByteArrayOutputStream(1024);
+        }
+    };
+
     private final Jsonb jsonb;
     private final boolean jsonbNeedsClosing;
 
@@ -35,12 +44,15 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            jsonb.toJson(data, output);
-            return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        ByteArrayOutputStream output = BUFFER.get();
+        output.reset();
+        jsonb.toJson(data, output);
+        byte[] bytes = output.toByteArray();
+        if (bytes.length > MAX_REUSED_BUFFER_SIZE) {
+            // Do not keep a large buffer around for a single large record
+            BUFFER.remove();
         }
+        return bytes;
     }
 
     @Override
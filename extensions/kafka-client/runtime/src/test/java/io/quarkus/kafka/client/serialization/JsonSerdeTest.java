@@ -0,0 +1,49 @@
+package io.quarkus.kafka.client.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonSerdeTest {
+
+    @Test
+    public void shouldRoundTripWithObjectMapper() {
+        try (ObjectMapperSerde<Fruit> serde = new ObjectMapperSerde<>(Fruit.class)) {
+            byte[] first = serde.serializer().serialize("fruits", new Fruit("apple", 3));
+            byte[] second = serde.serializer().serialize("fruits", new Fruit("pear", 4));
+
+            assertThat(serde.deserializer().deserialize("fruits", first)).isEqualToComparingFieldByField(new Fruit("apple", 3));
+            assertThat(serde.deserializer().deserialize("fruits", second)).isEqualToComparingFieldByField(new Fruit("pear", 4));
+            assertThat(serde.deserializer().deserialize("fruits", null)).isNull();
+        }
+    }
+
+    @Test
+    public void shouldRoundTripWithJsonb() {
+        try (JsonbSerde<Fruit> serde = new JsonbSerde<>(Fruit.class)) {
+            byte[] first = serde.serializer().serialize("fruits", new Fruit("apple", 3));
+            // The serializer reuses its buffer, the previous result must not change
+            byte[] second = serde.serializer().serialize("fruits", new Fruit("pear", 4));
+
+            assertThat(new String(first, StandardCharsets.UTF_8)).contains("apple");
+            assertThat(serde.deserializer().deserialize("fruits", first)).isEqualToComparingFieldByField(new Fruit("apple", 3));
+            assertThat(serde.deserializer().deserialize("fruits", second)).isEqualToComparingFieldByField(new Fruit("pear", 4));
+        }
+    }
+
+    public static class Fruit {
+
+        public String name;
+        public int quantity;
+
+        public Fruit() {
+        }
+
+        public Fruit(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+}
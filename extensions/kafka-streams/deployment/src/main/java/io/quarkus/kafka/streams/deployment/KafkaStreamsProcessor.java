@@ -17,6 +17,7 @@ import org.rocksdb.util.Environment;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -29,6 +30,8 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.kafka.streams.runtime.HotReplacementInterceptor;
+import io.quarkus.kafka.streams.runtime.InteractiveQueries;
+import io.quarkus.kafka.streams.runtime.InteractiveQueriesRoutes;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsTopologyManager;
@@ -196,4 +199,14 @@ class KafkaStreamsProcessor {
     AdditionalBeanBuildItem registerBean() {
         return AdditionalBeanBuildItem.unremovableOf(KafkaStreamsTopologyManager.class);
     }
+
+    @BuildStep
+    void registerInteractiveQueries(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        // removed if the application does not query the state stores
+        additionalBeans.produce(new AdditionalBeanBuildItem(InteractiveQueries.class));
+        // the routes are only enabled at runtime, but need the HTTP extension to be registered at all
+        if (capabilities.isCapabilityPresent(Capabilities.VERTX_HTTP)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InteractiveQueriesRoutes.class));
+        }
+    }
 }
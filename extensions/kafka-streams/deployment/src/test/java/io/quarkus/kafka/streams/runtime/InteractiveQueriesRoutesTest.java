@@ -0,0 +1,264 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.annotation.Priority;
+import javax.enterprise.inject.Alternative;
+import javax.inject.Singleton;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class InteractiveQueriesRoutesTest {
+
+    private static final HostInfo LOCAL = new HostInfo("localhost", 8081);
+
+    private static final int LARGE_STORE_SIZE = 10_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StubInteractiveQueries.class)
+                    .addAsResource(new StringAsset("quarkus.kafka-streams.application-id=test\n"
+                            + "quarkus.kafka-streams.topics=test\n"
+                            + "quarkus.kafka-streams.interactive-queries.enabled=true\n"
+                            + "quarkus.kafka-streams.interactive-queries.forward-timeout=1S\n"),
+                            "application.properties"));
+
+    // Another instance of the application, owning the keys starting with "remote" and "slow"
+    private static Vertx vertx;
+    private static HttpServer remote;
+    private static final Queue<String> forwardedHeaders = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger batches = new AtomicInteger();
+
+    @BeforeAll
+    static void startRemoteInstance() throws Exception {
+        vertx = Vertx.vertx();
+        CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        vertx.createHttpServer().requestHandler(request -> {
+            forwardedHeaders.add(String.valueOf(request.getHeader(InteractiveQueriesRoutes.FORWARDED_HEADER)));
+            if (request.path().endsWith("/keys/slow")) {
+                // never answers
+                return;
+            }
+            if (request.method() == HttpMethod.GET) {
+                request.response().end("42");
+            } else {
+                request.bodyHandler(body -> {
+                    batches.incrementAndGet();
+                    JsonObject values = new JsonObject();
+                    for (Object key : new JsonArray(body)) {
+                        values.put(String.valueOf(key), "remote-" + key);
+                    }
+                    request.response().end(values.encode());
+                });
+            }
+        }).listen(0, ar -> {
+            if (ar.succeeded()) {
+                started.complete(ar.result());
+            } else {
+                started.completeExceptionally(ar.cause());
+            }
+        });
+        remote = started.get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    static void stopRemoteInstance() {
+        if (vertx != null) {
+            vertx.close();
+        }
+    }
+
+    @BeforeEach
+    void reset() {
+        forwardedHeaders.clear();
+        batches.set(0);
+    }
+
+    @Test
+    public void testGet() {
+        given().get("/kafka-streams/stores/counts/keys/a").then().statusCode(200).body(is("1"));
+        given().get("/kafka-streams/stores/counts/keys/z").then().statusCode(404);
+        // no instance owns the key
+        given().get("/kafka-streams/stores/counts/keys/orphan").then().statusCode(503);
+        given().get("/kafka-streams/stores/unavailable/keys/a").then().statusCode(503);
+        assertTrue(forwardedHeaders.isEmpty());
+    }
+
+    @Test
+    public void testGetForwarded() {
+        given().get("/kafka-streams/stores/counts/keys/remote-1").then().statusCode(200).body(is("42"));
+        assertEquals(Collections.singletonList("true"), Arrays.asList(forwardedHeaders.toArray()));
+
+        // the other instance does not answer in time
+        given().get("/kafka-streams/stores/counts/keys/slow").then().statusCode(503);
+
+        // the instances do not agree on the owner of the key
+        given().header(InteractiveQueriesRoutes.FORWARDED_HEADER, "true")
+                .get("/kafka-streams/stores/counts/keys/remote-1").then().statusCode(503);
+    }
+
+    @Test
+    public void testGetAll() {
+        given().body("[\"a\", \"remote-1\", \"z\", \"remote-2\", \"orphan\", \"c\"]")
+                .post("/kafka-streams/stores/counts/keys")
+                .then().statusCode(200)
+                .body("size()", is(4))
+                .body("a", is(1))
+                .body("c", is(3))
+                .body("remote-1", is("remote-remote-1"))
+                .body("remote-2", is("remote-remote-2"));
+        // a single request for all the keys owned by the other instance
+        assertEquals(1, batches.get());
+
+        given().body("{").post("/kafka-streams/stores/counts/keys").then().statusCode(400);
+        given().body("[\"a\"]").post("/kafka-streams/stores/unavailable/keys").then().statusCode(503);
+    }
+
+    @Test
+    public void testEntries() {
+        given().get("/kafka-streams/stores/counts/entries")
+                .then().statusCode(200)
+                .body("key", contains("a", "b", "c"))
+                .body("value", contains(1, 2, 3));
+        given().get("/kafka-streams/stores/counts/entries?from=b&to=c")
+                .then().statusCode(200)
+                .body("key", contains("b", "c"));
+        given().get("/kafka-streams/stores/empty/entries").then().statusCode(200).body(is("[]"));
+
+        given().get("/kafka-streams/stores/counts/entries?from=b").then().statusCode(400);
+        given().get("/kafka-streams/stores/unavailable/entries").then().statusCode(503);
+    }
+
+    @Test
+    public void testEntriesStreamed() {
+        // larger than the write queue of the response, so the writer has to wait for the client
+        given().get("/kafka-streams/stores/large/entries")
+                .then().statusCode(200)
+                .body("size()", is(LARGE_STORE_SIZE))
+                .body("[0].key", is(largeKey(0)))
+                .body("[" + (LARGE_STORE_SIZE - 1) + "].key", is(largeKey(LARGE_STORE_SIZE - 1)));
+    }
+
+    private static String largeKey(int i) {
+        return String.format("key-%05d", i);
+    }
+
+    @Alternative
+    @Priority(1)
+    @Singleton
+    static class StubInteractiveQueries extends InteractiveQueries {
+
+        private final Map<String, NavigableMap<String, Object>> stores = new TreeMap<>();
+
+        StubInteractiveQueries() {
+            NavigableMap<String, Object> counts = new TreeMap<>();
+            counts.put("a", 1);
+            counts.put("b", 2);
+            counts.put("c", 3);
+            stores.put("counts", counts);
+            NavigableMap<String, Object> large = new TreeMap<>();
+            char[] value = new char[1000];
+            Arrays.fill(value, 'x');
+            for (int i = 0; i < LARGE_STORE_SIZE; i++) {
+                large.put(largeKey(i), new String(value));
+            }
+            stores.put("large", large);
+        }
+
+        @Override
+        public <K> Optional<HostInfo> getOwner(String storeName, K key, Serializer<K> keySerializer) {
+            String name = String.valueOf(key);
+            if (name.equals("orphan")) {
+                return Optional.empty();
+            } else if (name.startsWith("remote") || name.equals("slow")) {
+                return Optional.of(new HostInfo("localhost", remote.actualPort()));
+            }
+            return Optional.of(LOCAL);
+        }
+
+        @Override
+        public boolean isLocal(HostInfo host) {
+            return LOCAL.equals(host);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Optional<V> get(String storeName, K key) {
+            return Optional.ofNullable((V) store(storeName).get(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Map<K, V> getAll(String storeName, Collection<K> keys) {
+            NavigableMap<String, Object> store = store(storeName);
+            Map<K, V> values = new TreeMap<>();
+            for (K key : keys) {
+                if (store.containsKey(key)) {
+                    values.put(key, (V) store.get(key));
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public <K, V> void range(String storeName, K from, K to, Consumer<KeyValue<K, V>> consumer) {
+            entries(store(storeName).subMap((String) from, true, (String) to, true), consumer);
+        }
+
+        @Override
+        public <K, V> void all(String storeName, Consumer<KeyValue<K, V>> consumer) {
+            entries(store(storeName), consumer);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K, V> void entries(NavigableMap<String, Object> entries, Consumer<KeyValue<K, V>> consumer) {
+            for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                consumer.accept(KeyValue.pair((K) entry.getKey(), (V) entry.getValue()));
+            }
+        }
+
+        private NavigableMap<String, Object> store(String storeName) {
+            if (storeName.equals("unavailable")) {
+                throw new InvalidStateStoreException("The store " + storeName + " is not available");
+            }
+            return stores.getOrDefault(storeName, Collections.emptyNavigableMap());
+        }
+    }
+}
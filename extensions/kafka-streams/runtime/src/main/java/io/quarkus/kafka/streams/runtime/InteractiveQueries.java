@@ -0,0 +1,228 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.StreamsMetadata;
+
+/**
+ * Gives access to the key-value state stores of the Kafka Streams pipeline, across the instances of the application.
+ * <p>
+ * The metadata methods tell which instances host a store or a key, as configured by their
+ * {@code quarkus.kafka-streams.application-server}, so that a query can be sent to the instance owning the key. The
+ * lookup methods query the stores of the current instance. They wait for the stores to be available while Kafka
+ * Streams is starting or rebalancing, and fail with an {@link InvalidStateStoreException} if they are still not
+ * available after {@value #STORE_WAIT_TIMEOUT} ms.
+ */
+@ApplicationScoped
+public class InteractiveQueries {
+
+    static final long STORE_WAIT_TIMEOUT = 10_000;
+
+    private final KafkaStreams streams;
+    private final Optional<HostInfo> localHost;
+
+    InteractiveQueries() {
+        this.streams = null;
+        this.localHost = null;
+    }
+
+    @Inject
+    public InteractiveQueries(KafkaStreams streams, KafkaStreamsTopologyManager topologyManager) {
+        this(streams, topologyManager.getRuntimeConfig().applicationServer);
+    }
+
+    InteractiveQueries(KafkaStreams streams, Optional<String> applicationServer) {
+        this.streams = streams;
+        this.localHost = applicationServer.map(InteractiveQueries::parseHostInfo);
+    }
+
+    /**
+     * @param storeName
+     * @return the instances of the application hosting the given store
+     */
+    public List<HostInfo> getInstances(String storeName) {
+        List<HostInfo> instances = new ArrayList<>();
+        for (StreamsMetadata metadata : streams.allMetadataForStore(storeName)) {
+            instances.add(metadata.hostInfo());
+        }
+        return instances;
+    }
+
+    /**
+     * @param storeName
+     * @param key
+     * @param keySerializer the serializer of the keys of the store
+     * @return the instance of the application hosting the given key, or an empty optional if the key is not hosted by
+     *         any instance yet, e.g. during a rebalance
+     */
+    public <K> Optional<HostInfo> getOwner(String storeName, K key, Serializer<K> keySerializer) {
+        StreamsMetadata metadata = streams.metadataForKey(storeName, key, keySerializer);
+        if (metadata == null || StreamsMetadata.NOT_AVAILABLE.equals(metadata)) {
+            return Optional.empty();
+        }
+        return Optional.of(metadata.hostInfo());
+    }
+
+    /**
+     * Groups the given keys by the instance of the application hosting them, so that all the keys hosted by an
+     * instance can be queried at once. The keys not hosted by any instance yet are left out.
+     *
+     * @param storeName
+     * @param keys
+     * @param keySerializer the serializer of the keys of the store
+     * @return the keys, grouped by instance
+     */
+    public <K> Map<HostInfo, List<K>> groupByOwner(String storeName, Collection<K> keys, Serializer<K> keySerializer) {
+        Map<HostInfo, List<K>> keysByOwner = new LinkedHashMap<>();
+        for (K key : keys) {
+            Optional<HostInfo> owner = getOwner(storeName, key, keySerializer);
+            if (owner.isPresent()) {
+                keysByOwner.computeIfAbsent(owner.get(), h -> new ArrayList<>()).add(key);
+            }
+        }
+        return keysByOwner;
+    }
+
+    /**
+     * @param host
+     * @return {@code true} if the given instance is the current one, or if no application server is configured
+     */
+    public boolean isLocal(HostInfo host) {
+        return !localHost.isPresent() || localHost.get().equals(host);
+    }
+
+    /**
+     * Looks up a key in a store of the current instance.
+     *
+     * @param storeName
+     * @param key
+     * @return the value of the given key, or an empty optional if the key is not found
+     */
+    public <K, V> Optional<V> get(String storeName, K key) {
+        ReadOnlyKeyValueStore<K, V> store = getLocalStore(storeName);
+        return Optional.ofNullable(store.get(key));
+    }
+
+    /**
+     * Looks up the given keys in a store of the current instance.
+     *
+     * @param storeName
+     * @param keys
+     * @return the values of the keys found
+     */
+    public <K, V> Map<K, V> getAll(String storeName, Collection<K> keys) {
+        ReadOnlyKeyValueStore<K, V> store = getLocalStore(storeName);
+        Map<K, V> values = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = store.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Passes the entries of a store of the current instance whose keys are in the given range, inclusive, to the given
+     * consumer, without loading all of them in memory.
+     *
+     * @param storeName
+     * @param from
+     * @param to
+     * @param consumer
+     */
+    public <K, V> void range(String storeName, K from, K to, Consumer<KeyValue<K, V>> consumer) {
+        ReadOnlyKeyValueStore<K, V> store = getLocalStore(storeName);
+        try (KeyValueIterator<K, V> iterator = store.range(from, to)) {
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * Passes all the entries of a store of the current instance to the given consumer, without loading all of them in
+     * memory.
+     *
+     * @param storeName
+     * @param consumer
+     */
+    public <K, V> void all(String storeName, Consumer<KeyValue<K, V>> consumer) {
+        ReadOnlyKeyValueStore<K, V> store = getLocalStore(storeName);
+        try (KeyValueIterator<K, V> iterator = store.all()) {
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * @param storeName
+     * @param from
+     * @param to
+     * @return the entries of a store of the current instance whose keys are in the given range, inclusive
+     * @see #range(String, Object, Object, Consumer)
+     */
+    public <K, V> List<KeyValue<K, V>> range(String storeName, K from, K to) {
+        List<KeyValue<K, V>> entries = new ArrayList<>();
+        this.<K, V> range(storeName, from, to, entries::add);
+        return entries;
+    }
+
+    private <K, V> ReadOnlyKeyValueStore<K, V> getLocalStore(String storeName) {
+        long deadline = System.currentTimeMillis() + STORE_WAIT_TIMEOUT;
+        while (true) {
+            try {
+                return streams.store(storeName, QueryableStoreTypes.<K, V> keyValueStore());
+            } catch (InvalidStateStoreException e) {
+                KafkaStreams.State state = streams.state();
+                // The store may become available once started or rebalanced
+                if (System.currentTimeMillis() > deadline
+                        || (state != KafkaStreams.State.CREATED && state != KafkaStreams.State.REBALANCING)) {
+                    throw e;
+                }
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InvalidStateStoreException("Interrupted while waiting for the store " + storeName);
+            }
+        }
+    }
+
+    static HostInfo parseHostInfo(String applicationServer) {
+        int separator = applicationServer.lastIndexOf(':');
+        if (separator > 0) {
+            String host = applicationServer.substring(0, separator).trim();
+            String port = applicationServer.substring(separator + 1).trim();
+            try {
+                if (!host.isEmpty()) {
+                    return new HostInfo(host, Integer.parseInt(port));
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new IllegalArgumentException("Invalid quarkus.kafka-streams.application-server, expected host:port but was: "
+                + applicationServer);
+    }
+
+}
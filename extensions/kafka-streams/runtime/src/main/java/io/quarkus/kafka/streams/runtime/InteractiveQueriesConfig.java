@@ -0,0 +1,47 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class InteractiveQueriesConfig {
+
+    /**
+     * Whether the key-value state stores are exposed over HTTP, under {@code /kafka-streams/stores}, when the
+     * application also uses the HTTP extension.
+     * <p>
+     * Lookups of keys owned by another instance are forwarded to that instance, as configured by its
+     * {@code quarkus.kafka-streams.application-server}.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The type of the keys of the state stores queried over HTTP.
+     */
+    @ConfigItem(defaultValue = "string")
+    public KeyType keyType;
+
+    /**
+     * How long to wait for the answer of another instance to a forwarded lookup. The lookup fails with a 503 status
+     * once elapsed.
+     */
+    @ConfigItem(defaultValue = "10S")
+    public Duration forwardTimeout;
+
+    @Override
+    public String toString() {
+        return "InteractiveQueriesConfig [enabled=" + enabled + ", keyType=" + keyType + ", forwardTimeout="
+                + forwardTimeout + "]";
+    }
+
+    public enum KeyType {
+
+        STRING,
+        INTEGER,
+        LONG
+
+    }
+}
@@ -0,0 +1,398 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.jboss.logging.Logger;
+
+import io.quarkus.kafka.streams.runtime.InteractiveQueriesConfig.KeyType;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+
+/**
+ * Exposes the key-value state stores of the pipeline over HTTP, when enabled by
+ * {@code quarkus.kafka-streams.interactive-queries.enabled}. Only registered if the application uses the HTTP
+ * extension.
+ * <ul>
+ * <li>{@code GET /kafka-streams/stores/<store>/keys/<key>} returns the value of a key, forwarding the request to the
+ * instance owning the key if needed.</li>
+ * <li>{@code POST /kafka-streams/stores/<store>/keys} with a JSON array of keys returns a JSON object with the values of
+ * the keys found, sending one request per instance owning some of the keys.</li>
+ * <li>{@code GET /kafka-streams/stores/<store>/entries[?from=<key>&to=<key>]} streams the entries of the store of the
+ * current instance, optionally in the given range, as a JSON array.</li>
+ * </ul>
+ */
+@Singleton
+public class InteractiveQueriesRoutes {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractiveQueriesRoutes.class.getName());
+
+    static final String PATH = "/kafka-streams/stores";
+    // Set on the requests sent to the owner of a key, which must answer them itself
+    static final String FORWARDED_HEADER = "X-Kafka-Streams-Forwarded";
+
+    private final InteractiveQueries interactiveQueries;
+    private final KafkaStreamsTopologyManager topologyManager;
+    private final Vertx vertx;
+    private volatile HttpClient client;
+
+    @Inject
+    public InteractiveQueriesRoutes(InteractiveQueries interactiveQueries, KafkaStreamsTopologyManager topologyManager,
+            Vertx vertx) {
+        this.interactiveQueries = interactiveQueries;
+        this.topologyManager = topologyManager;
+        this.vertx = vertx;
+    }
+
+    void init(@Observes Router router) {
+        router.get(PATH + "/:store/keys/:key").blockingHandler(ifEnabled(this::get), false);
+        router.post(PATH + "/:store/keys").handler(ifEnabled(BodyHandler.create()));
+        router.post(PATH + "/:store/keys").blockingHandler(ifEnabled(this::getAll), false);
+        router.get(PATH + "/:store/entries").blockingHandler(ifEnabled(this::entries), false);
+    }
+
+    private Handler<RoutingContext> ifEnabled(Handler<RoutingContext> handler) {
+        return ctx -> {
+            // The runtime config is only set once the application is started
+            KafkaStreamsRuntimeConfig runtimeConfig = topologyManager.getRuntimeConfig();
+            if (runtimeConfig != null && runtimeConfig.interactiveQueries.enabled) {
+                handler.handle(ctx);
+            } else {
+                ctx.next();
+            }
+        };
+    }
+
+    private void get(RoutingContext ctx) {
+        String store = ctx.pathParam("store");
+        Object key;
+        try {
+            key = toKey(ctx.pathParam("key"));
+        } catch (NumberFormatException e) {
+            ctx.response().setStatusCode(400).end();
+            return;
+        }
+        Optional<HostInfo> owner = interactiveQueries.getOwner(store, key, keySerializer());
+        if (!owner.isPresent()) {
+            unavailable(ctx, "No instance owns the key " + key + " of " + store);
+        } else if (interactiveQueries.isLocal(owner.get())) {
+            Optional<Object> value;
+            try {
+                value = interactiveQueries.get(store, key);
+            } catch (InvalidStateStoreException e) {
+                unavailable(ctx, e.getMessage());
+                return;
+            }
+            if (value.isPresent()) {
+                json(ctx.response()).end(Json.encode(value.get()));
+            } else {
+                ctx.response().setStatusCode(404).end();
+            }
+        } else if (ctx.request().getHeader(FORWARDED_HEADER) != null) {
+            // The instances do not agree on the owner, e.g. during a rebalance
+            unavailable(ctx, "The key " + key + " of " + store + " is owned by " + owner.get());
+        } else {
+            forward(HttpMethod.GET, owner.get(), ctx.request().uri(), null, response -> {
+                if (response == null) {
+                    unavailable(ctx, "Unable to forward the lookup of " + key + " to " + owner.get());
+                } else {
+                    json(ctx.response()).setStatusCode(response.statusCode).end(response.body);
+                }
+            });
+        }
+    }
+
+    private void getAll(RoutingContext ctx) {
+        String store = ctx.pathParam("store");
+        List<Object> keys = new ArrayList<>();
+        try {
+            for (Object key : new JsonArray(ctx.getBodyAsString())) {
+                keys.add(toKey(String.valueOf(key)));
+            }
+        } catch (DecodeException | NumberFormatException e) {
+            ctx.response().setStatusCode(400).end();
+            return;
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (ctx.request().getHeader(FORWARDED_HEADER) != null) {
+            // Sent by another instance for the keys owned by this one
+            if (putLocalValues(ctx, store, keys, values)) {
+                json(ctx.response()).end(Json.encode(values));
+            }
+            return;
+        }
+        Map<HostInfo, List<Object>> keysByOwner = interactiveQueries.groupByOwner(store, keys, keySerializer());
+        List<Entry<HostInfo, List<Object>>> remoteKeys = new ArrayList<>();
+        for (Entry<HostInfo, List<Object>> entry : keysByOwner.entrySet()) {
+            if (interactiveQueries.isLocal(entry.getKey())) {
+                if (!putLocalValues(ctx, store, entry.getValue(), values)) {
+                    return;
+                }
+            } else {
+                remoteKeys.add(entry);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            json(ctx.response()).end(Json.encode(values));
+            return;
+        }
+        // One request per instance, the response is sent once all of them completed
+        AtomicInteger pending = new AtomicInteger(remoteKeys.size());
+        for (Entry<HostInfo, List<Object>> entry : remoteKeys) {
+            forward(HttpMethod.POST, entry.getKey(), ctx.request().uri(), new JsonArray(entry.getValue()).toBuffer(),
+                    response -> {
+                        synchronized (values) {
+                            if (response != null && response.statusCode == 200) {
+                                values.putAll(Json.decodeValue(response.body, Map.class));
+                            } else {
+                                LOGGER.warnf("Unable to look up %s keys of %s on %s", entry.getValue().size(), store,
+                                        entry.getKey());
+                            }
+                        }
+                        if (pending.decrementAndGet() == 0) {
+                            synchronized (values) {
+                                json(ctx.response()).end(Json.encode(values));
+                            }
+                        }
+                    });
+        }
+    }
+
+    private boolean putLocalValues(RoutingContext ctx, String store, List<Object> keys, Map<String, Object> values) {
+        try {
+            for (Entry<Object, Object> entry : interactiveQueries.getAll(store, keys).entrySet()) {
+                values.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            return true;
+        } catch (InvalidStateStoreException e) {
+            unavailable(ctx, e.getMessage());
+            return false;
+        }
+    }
+
+    private void entries(RoutingContext ctx) {
+        String store = ctx.pathParam("store");
+        String from = ctx.request().getParam("from");
+        String to = ctx.request().getParam("to");
+        Object fromKey;
+        Object toKey;
+        try {
+            fromKey = from != null ? toKey(from) : null;
+            toKey = to != null ? toKey(to) : null;
+        } catch (NumberFormatException e) {
+            ctx.response().setStatusCode(400).end();
+            return;
+        }
+        if ((fromKey == null) != (toKey == null)) {
+            ctx.response().setStatusCode(400).end();
+            return;
+        }
+        HttpServerResponse response = json(ctx.response()).setChunked(true);
+        EntryWriter writer = new EntryWriter(response);
+        try {
+            if (fromKey != null) {
+                interactiveQueries.range(store, fromKey, toKey, writer);
+            } else {
+                interactiveQueries.all(store, writer);
+            }
+        } catch (InvalidStateStoreException e) {
+            if (writer.first) {
+                response.setChunked(false);
+                unavailable(ctx, e.getMessage());
+            } else {
+                // The status was already sent
+                LOGGER.warnf("The store %s became unavailable while streaming its entries", store);
+                ctx.request().connection().close();
+            }
+            return;
+        } catch (ResponseClosedException e) {
+            LOGGER.debugf("The client closed the connection while streaming the entries of %s", store);
+            return;
+        }
+        response.end(writer.first ? "[]" : "]");
+    }
+
+    /**
+     * Sends a request to another instance. The callback is called exactly once, with {@code null} if the request
+     * failed or timed out.
+     */
+    private void forward(HttpMethod method, HostInfo host, String uri, Buffer body, Consumer<ForwardedResponse> callback) {
+        // Both the response and the request may fail, e.g. on a timeout while reading the body
+        AtomicBoolean completed = new AtomicBoolean();
+        Consumer<ForwardedResponse> once = response -> {
+            if (completed.compareAndSet(false, true)) {
+                callback.accept(response);
+            }
+        };
+        HttpClientRequest request = getClient().request(method, host.port(), host.host(), uri);
+        request.putHeader(FORWARDED_HEADER, "true");
+        request.setTimeout(topologyManager.getRuntimeConfig().interactiveQueries.forwardTimeout.toMillis());
+        request.handler(response -> response.bodyHandler(buffer -> {
+            once.accept(new ForwardedResponse(response.statusCode(), buffer));
+        }).exceptionHandler(e -> {
+            LOGGER.debugf(e, "Unable to read the response of %s to %s", host, uri);
+            once.accept(null);
+        }));
+        request.exceptionHandler(e -> {
+            LOGGER.debugf(e, "Unable to forward %s to %s", uri, host);
+            once.accept(null);
+        });
+        if (body != null) {
+            request.end(body);
+        } else {
+            request.end();
+        }
+    }
+
+    private HttpClient getClient() {
+        HttpClient client = this.client;
+        if (client == null) {
+            synchronized (this) {
+                client = this.client;
+                if (client == null) {
+                    this.client = client = vertx.createHttpClient();
+                }
+            }
+        }
+        return client;
+    }
+
+    private Object toKey(String value) {
+        return keyParser().apply(value);
+    }
+
+    private Function<String, Object> keyParser() {
+        switch (keyType()) {
+            case INTEGER:
+                return Integer::valueOf;
+            case LONG:
+                return Long::valueOf;
+            default:
+                return Function.identity();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Serializer<Object> keySerializer() {
+        switch (keyType()) {
+            case INTEGER:
+                return (Serializer<Object>) (Serializer<?>) Serdes.Integer().serializer();
+            case LONG:
+                return (Serializer<Object>) (Serializer<?>) Serdes.Long().serializer();
+            default:
+                return (Serializer<Object>) (Serializer<?>) Serdes.String().serializer();
+        }
+    }
+
+    private KeyType keyType() {
+        return topologyManager.getRuntimeConfig().interactiveQueries.keyType;
+    }
+
+    private static HttpServerResponse json(HttpServerResponse response) {
+        return response.putHeader("Content-Type", "application/json");
+    }
+
+    private static void unavailable(RoutingContext ctx, String message) {
+        LOGGER.debug(message);
+        ctx.response().setStatusCode(503).end();
+    }
+
+    /**
+     * Writes the entries of a store as a JSON array from a worker thread. Whenever the write queue of the response is
+     * full, it waits for the client to read the entries already written before writing the next one.
+     */
+    static final class EntryWriter implements Consumer<KeyValue<Object, Object>> {
+
+        private final HttpServerResponse response;
+        private volatile boolean closed;
+        boolean first = true;
+
+        EntryWriter(HttpServerResponse response) {
+            this.response = response;
+            response.drainHandler(v -> wakeUp());
+            response.closeHandler(v -> {
+                closed = true;
+                wakeUp();
+            });
+        }
+
+        @Override
+        public void accept(KeyValue<Object, Object> entry) {
+            awaitWritable();
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("key", entry.key);
+            json.put("value", entry.value);
+            response.write((first ? "[" : ",") + Json.encode(json));
+            first = false;
+        }
+
+        private synchronized void awaitWritable() {
+            // The drain handler needs the lock, so it cannot run between the check and the wait
+            while (!closed && response.writeQueueFull()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ResponseClosedException();
+                }
+            }
+            if (closed) {
+                throw new ResponseClosedException();
+            }
+        }
+
+        private synchronized void wakeUp() {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops the iteration over the entries of a store once the response can no longer be written.
+     */
+    static final class ResponseClosedException extends RuntimeException {
+
+        ResponseClosedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    static final class ForwardedResponse {
+
+        final int statusCode;
+        final Buffer body;
+
+        ForwardedResponse(int statusCode, Buffer body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+
+}
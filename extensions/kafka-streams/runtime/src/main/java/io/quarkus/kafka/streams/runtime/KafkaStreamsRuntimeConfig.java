@@ -37,10 +37,17 @@ public class KafkaStreamsRuntimeConfig {
     @ConfigItem
     public List<String> topics;
 
+    /**
+     * The HTTP access to the state stores.
+     */
+    @ConfigItem
+    public InteractiveQueriesConfig interactiveQueries;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig [applicationId=" + applicationId + ", bootstrapServers=" + bootstrapServers
-                + ", applicationServer=" + applicationServer + ", topics=" + topics + "]";
+                + ", applicationServer=" + applicationServer + ", topics=" + topics
+                + ", interactiveQueries=" + interactiveQueries + "]";
     }
 
     public List<String> getTrimmedTopics() {
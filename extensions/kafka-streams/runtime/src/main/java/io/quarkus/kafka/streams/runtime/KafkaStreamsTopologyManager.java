@@ -172,6 +172,10 @@ public class KafkaStreamsTopologyManager {
         this.runtimeConfig = runtimeConfig;
     }
 
+    public KafkaStreamsRuntimeConfig getRuntimeConfig() {
+        return runtimeConfig;
+    }
+
     public void configure(Properties properties) {
         this.properties = properties;
     }
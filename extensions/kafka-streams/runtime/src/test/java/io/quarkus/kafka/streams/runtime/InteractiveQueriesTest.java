@@ -0,0 +1,144 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.StreamsMetadata;
+import org.junit.jupiter.api.Test;
+
+public class InteractiveQueriesTest {
+
+    private static final String STORE = "store";
+    private static final HostInfo LOCAL = new HostInfo("localhost", 8080);
+    private static final HostInfo REMOTE = new HostInfo("remote", 8080);
+
+    private final Serializer<String> serializer = Serdes.String().serializer();
+
+    @Test
+    public void testGetOwner() {
+        KafkaStreams streams = mock(KafkaStreams.class);
+        when(streams.metadataForKey(eq(STORE), eq("a"), any())).thenReturn(metadata(REMOTE));
+        when(streams.metadataForKey(eq(STORE), eq("b"), any())).thenReturn(StreamsMetadata.NOT_AVAILABLE);
+        InteractiveQueries queries = new InteractiveQueries(streams, Optional.of("localhost:8080"));
+
+        assertEquals(Optional.of(REMOTE), queries.getOwner(STORE, "a", serializer));
+        assertEquals(Optional.empty(), queries.getOwner(STORE, "b", serializer));
+        assertEquals(Optional.empty(), queries.getOwner(STORE, "c", serializer));
+    }
+
+    @Test
+    public void testGroupByOwner() {
+        KafkaStreams streams = mock(KafkaStreams.class);
+        when(streams.metadataForKey(eq(STORE), eq("a"), any())).thenReturn(metadata(LOCAL));
+        when(streams.metadataForKey(eq(STORE), eq("b"), any())).thenReturn(metadata(REMOTE));
+        when(streams.metadataForKey(eq(STORE), eq("c"), any())).thenReturn(metadata(LOCAL));
+        when(streams.metadataForKey(eq(STORE), eq("d"), any())).thenReturn(StreamsMetadata.NOT_AVAILABLE);
+        InteractiveQueries queries = new InteractiveQueries(streams, Optional.of("localhost:8080"));
+
+        Map<HostInfo, List<String>> keysByOwner = queries.groupByOwner(STORE, Arrays.asList("a", "b", "c", "d"),
+                serializer);
+        assertEquals(2, keysByOwner.size());
+        assertEquals(Arrays.asList("a", "c"), keysByOwner.get(LOCAL));
+        assertEquals(Collections.singletonList("b"), keysByOwner.get(REMOTE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRange() {
+        KafkaStreams streams = mock(KafkaStreams.class);
+        ReadOnlyKeyValueStore<String, Long> store = mock(ReadOnlyKeyValueStore.class);
+        ListIterator iterator = new ListIterator(Arrays.asList(KeyValue.pair("a", 1L), KeyValue.pair("b", 2L)));
+        when(store.range("a", "b")).thenReturn(iterator);
+        when(streams.store(eq(STORE), any())).thenReturn(store);
+        InteractiveQueries queries = new InteractiveQueries(streams, Optional.empty());
+
+        List<KeyValue<String, Long>> entries = queries.range(STORE, "a", "b");
+        assertEquals(Arrays.asList(KeyValue.pair("a", 1L), KeyValue.pair("b", 2L)), entries);
+        assertTrue(iterator.closed);
+
+        // The iterator is closed even if the consumer fails
+        iterator = new ListIterator(Collections.singletonList(KeyValue.pair("a", 1L)));
+        when(store.range("a", "b")).thenReturn(iterator);
+        assertThrows(IllegalStateException.class, () -> queries.<String, Long> range(STORE, "a", "b", e -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(iterator.closed);
+    }
+
+    @Test
+    public void testIsLocal() {
+        KafkaStreams streams = mock(KafkaStreams.class);
+        InteractiveQueries queries = new InteractiveQueries(streams, Optional.of(" localhost : 8080 "));
+        assertTrue(queries.isLocal(LOCAL));
+        assertFalse(queries.isLocal(REMOTE));
+        assertFalse(queries.isLocal(new HostInfo("localhost", 8081)));
+
+        // Single instance
+        queries = new InteractiveQueries(streams, Optional.empty());
+        assertTrue(queries.isLocal(REMOTE));
+    }
+
+    @Test
+    public void testInvalidApplicationServer() {
+        KafkaStreams streams = mock(KafkaStreams.class);
+        for (String applicationServer : new String[] { "localhost", ":8080", "localhost:", "localhost:port" }) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new InteractiveQueries(streams, Optional.of(applicationServer)), applicationServer);
+        }
+    }
+
+    private static StreamsMetadata metadata(HostInfo host) {
+        return new StreamsMetadata(host, Collections.singleton(STORE), Collections.emptySet());
+    }
+
+    static final class ListIterator implements KeyValueIterator<String, Long> {
+
+        private final Iterator<KeyValue<String, Long>> delegate;
+        boolean closed;
+
+        ListIterator(List<KeyValue<String, Long>> entries) {
+            this.delegate = entries.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public KeyValue<String, Long> next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public String peekNextKey() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * Collects the string literal queries passed to the Panache operations of entities and repositories.
+ * <p>
+ * A query is collected when the bytecode shows that its argument always comes from a single constant. The shorthand
+ * {@code find("field", value)} form is only collected when its single parameter is passed as a varargs array, the
+ * only case where the number of parameters is known.
+ */
+final class PanacheQueryCollector {
+
+    /**
+     * The number of parameters of a query whose derivation does not depend on it.
+     */
+    static final int ANY_PARAM_COUNT = -1;
+
+    private static final Set<String> FIND_METHODS = new HashSet<>(Arrays.asList("find", "list", "stream"));
+    private static final String COUNT_METHOD = "count";
+    private static final Type STRING = Type.getType(String.class);
+    private static final Type OBJECT_ARRAY = Type.getType(Object[].class);
+
+    private final Map<String, String> entityByOwner;
+    private final Map<String, Map<String, Integer>> findQueries = new HashMap<>();
+    private final Map<String, Map<String, Integer>> countQueries = new HashMap<>();
+
+    /**
+     * @param entityByOwner the entity class names, keyed by the internal names of the entities and repositories
+     */
+    PanacheQueryCollector(Map<String, String> entityByOwner) {
+        this.entityByOwner = entityByOwner;
+    }
+
+    /**
+     * @return the queries passed to the find, list and stream operations, keyed by entity class name, with their
+     *         number of parameters
+     */
+    Map<String, Map<String, Integer>> getFindQueries() {
+        return findQueries;
+    }
+
+    /**
+     * @return the queries passed to the count operations, keyed by entity class name, with their number of parameters
+     */
+    Map<String, Map<String, Integer>> getCountQueries() {
+        return countQueries;
+    }
+
+    void collect(byte[] classBytes) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (callsPanacheOperation(method)) {
+                collect(classNode.name, method);
+            }
+        }
+    }
+
+    private boolean callsPanacheOperation(MethodNode method) {
+        for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (insn instanceof MethodInsnNode && getQueries((MethodInsnNode) insn) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Map<String, Integer>> getQueries(MethodInsnNode call) {
+        if (!entityByOwner.containsKey(call.owner)) {
+            return null;
+        }
+        if (FIND_METHODS.contains(call.name)) {
+            return findQueries;
+        }
+        return COUNT_METHOD.equals(call.name) ? countQueries : null;
+    }
+
+    private void collect(String owner, MethodNode method) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            // not worth failing the build, the queries of this method will be derived at runtime
+            return;
+        }
+        AbstractInsnNode[] instructions = method.instructions.toArray();
+        for (int i = 0; i < instructions.length; i++) {
+            if (!(instructions[i] instanceof MethodInsnNode) || frames[i] == null) {
+                continue;
+            }
+            MethodInsnNode call = (MethodInsnNode) instructions[i];
+            Map<String, Map<String, Integer>> queries = getQueries(call);
+            Type[] arguments = Type.getArgumentTypes(call.desc);
+            if (queries == null || arguments.length == 0 || !arguments[0].equals(STRING)) {
+                continue;
+            }
+            Frame<SourceValue> frame = frames[i];
+            int firstArgument = frame.getStackSize() - arguments.length;
+            String query = getConstantString(frame.getStack(firstArgument));
+            if (query == null) {
+                continue;
+            }
+            int paramCount = ANY_PARAM_COUNT;
+            if (isShorthand(query)) {
+                // only meaningful with a single parameter
+                Type lastArgument = arguments[arguments.length - 1];
+                if (!lastArgument.equals(OBJECT_ARRAY)
+                        || getConstantArraySize(method, frames, frame.getStack(frame.getStackSize() - 1)) != 1) {
+                    continue;
+                }
+                paramCount = 1;
+            }
+            queries.computeIfAbsent(entityByOwner.get(call.owner), k -> new HashMap<>()).put(query, paramCount);
+        }
+    }
+
+    /**
+     * Must be kept in sync with {@code JpaOperations.createFindQuery}.
+     */
+    static boolean isShorthand(String query) {
+        String trimmed = query.trim();
+        return !trimmed.isEmpty() && trimmed.indexOf(' ') == -1 && trimmed.indexOf('=') == -1;
+    }
+
+    private static String getConstantString(SourceValue value) {
+        if (value.insns.size() != 1) {
+            return null;
+        }
+        AbstractInsnNode insn = value.insns.iterator().next();
+        if (insn instanceof LdcInsnNode && ((LdcInsnNode) insn).cst instanceof String) {
+            return (String) ((LdcInsnNode) insn).cst;
+        }
+        return null;
+    }
+
+    private static int getConstantArraySize(MethodNode method, Frame<SourceValue>[] frames, SourceValue array) {
+        if (array.insns.size() != 1) {
+            return ANY_PARAM_COUNT;
+        }
+        AbstractInsnNode insn = array.insns.iterator().next();
+        if (insn.getOpcode() != Opcodes.ANEWARRAY) {
+            return ANY_PARAM_COUNT;
+        }
+        Frame<SourceValue> frame = frames[method.instructions.indexOf(insn)];
+        if (frame == null) {
+            return ANY_PARAM_COUNT;
+        }
+        SourceValue size = frame.getStack(frame.getStackSize() - 1);
+        if (size.insns.size() != 1) {
+            return ANY_PARAM_COUNT;
+        }
+        AbstractInsnNode sizeInsn = size.insns.iterator().next();
+        int opcode = sizeInsn.getOpcode();
+        if (sizeInsn instanceof InsnNode && opcode >= Opcodes.ICONST_0 && opcode <= Opcodes.ICONST_5) {
+            return opcode - Opcodes.ICONST_0;
+        }
+        if (sizeInsn instanceof IntInsnNode && (opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH)) {
+            return ((IntInsnNode) sizeInsn).operand;
+        }
+        return ANY_PARAM_COUNT;
+    }
+}
@@ -1,8 +1,13 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -10,12 +15,16 @@ import javax.persistence.EntityManager;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -26,6 +35,7 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.orm.panache.runtime.PanacheHibernateRecorder;
 import io.quarkus.panache.common.deployment.EntityField;
 import io.quarkus.panache.common.deployment.EntityModel;
 import io.quarkus.panache.common.deployment.MetamodelInfo;
@@ -122,4 +132,60 @@ public final class PanacheResourceProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void precomputeQueries(PanacheHibernateRecorder recorder,
+            CombinedIndexBuildItem index,
+            ApplicationIndexBuildItem applicationIndex,
+            ApplicationArchivesBuildItem applicationArchives) throws IOException {
+        Map<String, String> entityByOwner = new HashMap<>();
+        // as in build(), Jandex does not give us the subtypes of PanacheEntity and PanacheRepository in the first pass
+        Set<ClassInfo> entities = new HashSet<>(index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE));
+        entities.addAll(index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY));
+        for (ClassInfo classInfo : entities) {
+            entityByOwner.put(classInfo.name().toString().replace('.', '/'), classInfo.name().toString());
+        }
+        Set<ClassInfo> repositories = new HashSet<>(index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE));
+        repositories.addAll(index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY));
+        for (ClassInfo classInfo : repositories) {
+            DotName entity = getRepositoryEntity(index.getIndex(), classInfo);
+            if (entity != null) {
+                entityByOwner.put(classInfo.name().toString().replace('.', '/'), entity.toString());
+            }
+        }
+        if (entityByOwner.isEmpty()) {
+            return;
+        }
+
+        PanacheQueryCollector collector = new PanacheQueryCollector(entityByOwner);
+        for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+            Path classFile = applicationArchives.getRootArchive()
+                    .getChildPath(classInfo.name().toString().replace('.', '/') + ".class");
+            if (classFile != null) {
+                collector.collect(Files.readAllBytes(classFile));
+            }
+        }
+        if (!collector.getFindQueries().isEmpty() || !collector.getCountQueries().isEmpty()) {
+            recorder.precomputeQueries(collector.getFindQueries(), collector.getCountQueries());
+        }
+    }
+
+    /**
+     * @return the entity of a repository, or {@code null} if it is not fixed by the repository or its superclasses
+     */
+    private static DotName getRepositoryEntity(IndexView index, ClassInfo repository) {
+        ClassInfo classInfo = repository;
+        while (classInfo != null) {
+            for (Type type : classInfo.interfaceTypes()) {
+                if (type.kind() == Type.Kind.PARAMETERIZED_TYPE
+                        && (type.name().equals(DOTNAME_PANACHE_REPOSITORY)
+                                || type.name().equals(DOTNAME_PANACHE_REPOSITORY_BASE))) {
+                    Type entity = type.asParameterizedType().arguments().get(0);
+                    return entity.kind() == Type.Kind.CLASS ? entity.name() : null;
+                }
+            }
+            classInfo = classInfo.superName() == null ? null : index.getClassByName(classInfo.superName());
+        }
+        return null;
+    }
 }
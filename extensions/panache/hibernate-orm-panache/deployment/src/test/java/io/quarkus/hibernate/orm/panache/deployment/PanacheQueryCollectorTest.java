@@ -0,0 +1,78 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+
+public class PanacheQueryCollectorTest {
+
+    public static class Person extends PanacheEntity {
+        public String name;
+    }
+
+    static class Queries {
+
+        void queries(String dynamicQuery, Object[] params) {
+            Person.find("name = ?1", "stef");
+            Person.list("name", "stef");
+            Person.stream("name", Sort.by("name"), "stef", "extra");
+            Person.count("name = :name", Parameters.with("name", "stef"));
+            Person.find("name", Parameters.with("name", "stef"));
+            Person.find("name", params);
+            Person.find(dynamicQuery);
+        }
+    }
+
+    @Test
+    public void testCollectQueries() throws IOException {
+        Map<String, String> entityByOwner = new HashMap<>();
+        entityByOwner.put(Person.class.getName().replace('.', '/'), Person.class.getName());
+        PanacheQueryCollector collector = new PanacheQueryCollector(entityByOwner);
+        collector.collect(classBytes(Queries.class));
+
+        Map<String, Integer> findQueries = collector.getFindQueries().get(Person.class.getName());
+        assertEquals(PanacheQueryCollector.ANY_PARAM_COUNT, findQueries.get("name = ?1"));
+        // the shorthand form is only collected when it is known to have a single parameter
+        assertEquals(1, findQueries.get("name"));
+        assertEquals(2, findQueries.size());
+
+        Map<String, Integer> countQueries = collector.getCountQueries().get(Person.class.getName());
+        assertEquals(PanacheQueryCollector.ANY_PARAM_COUNT, countQueries.get("name = :name"));
+        assertEquals(1, countQueries.size());
+    }
+
+    @Test
+    public void testShorthand() {
+        assertTrue(PanacheQueryCollector.isShorthand("name"));
+        assertTrue(PanacheQueryCollector.isShorthand(" name "));
+        assertFalse(PanacheQueryCollector.isShorthand(""));
+        assertFalse(PanacheQueryCollector.isShorthand("name = ?1"));
+        assertFalse(PanacheQueryCollector.isShorthand("name=?1"));
+        assertFalse(PanacheQueryCollector.isShorthand("order by name"));
+    }
+
+    private static byte[] classBytes(Class<?> clazz) throws IOException {
+        try (InputStream in = clazz.getClassLoader()
+                .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            byte[] buffer = new byte[8192];
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -79,9 +79,38 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
+    /**
+     * Switches this query to keyset pagination: the current page starts right after the entity whose values for the
+     * sort columns are the given ones, instead of skipping the entities of the previous pages. Pass the sort values
+     * of the last entity of a page to get the next one, whatever the depth of the page.
+     * <p>
+     * The query must be sorted, and the sort columns should identify an entity uniquely and never be
+     * <code>null</code>. Only the size of the current page is used, its index is ignored, and
+     * {@link #hasNextPage()} no longer reads the entity count.
+     * 
+     * @param lastSortValues the values of the sort columns of the last entity of the previous page, in the order of
+     *        the sort columns, or no value for the first page
+     * @return this query, modified
+     * @throws IllegalStateException if the query is not sorted or is a full HQL query
+     * @throws IllegalArgumentException if the number of values does not match the number of sort columns
+     * @see #hasNextPage()
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortValues);
+
+    /**
+     * Sets the number of rows fetched at a time by the JDBC driver when streaming the results, overriding the
+     * <code>quarkus.hibernate-orm.jdbc.statement-fetch-size</code> configuration.
+     * 
+     * @param fetchSize the number of rows fetched at a time
+     * @return this query, modified
+     * @see #stream()
+     */
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize);
+
     /**
      * Returns true if there is another page to read after the current one.
-     * This will cause reading of the entity count.
+     * This will cause reading of the entity count, except with keyset pagination where one more entity than the page
+     * size is read instead.
      * 
      * @return true if there is another page to read
      * @see #hasPreviousPage()
@@ -137,14 +166,36 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns the current page of results as a {@link Stream}.
+     * <p>
+     * The results are read from a database cursor as the stream is consumed. The entities stay managed, so their
+     * changes are flushed as usual. The stream must be closed to release the cursor if it is not fully consumed.
      * 
      * @return the current page of results as a {@link Stream}.
+     * @see #streamDetached()
+     * @see #withFetchSize(int)
      * @see #list()
      * @see #page(Page)
      * @see #page()
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} of detached entities, for reading large results with
+     * bounded memory.
+     * <p>
+     * The results are read from a database cursor as the stream is consumed, and each entity read is detached from
+     * the persistence context once the next one is read, so that the memory used does not grow with the number of
+     * results. As a consequence, the changes made to an entity are not flushed, and its lazy associations cannot be
+     * loaded once the stream has moved past it. The entities that were already managed before the stream was opened
+     * stay managed. With keyset pagination, the page is read as a list and its entities stay managed.
+     * The stream must be closed to release the cursor if it is not fully consumed.
+     * 
+     * @return the current page of results as a {@link Stream} of detached entities.
+     * @see #stream()
+     * @see #withFetchSize(int)
+     */
+    public <T extends Entity> Stream<T> streamDetached();
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -677,4 +677,36 @@ public interface PanacheRepositoryBase<Entity, Id> {
     public default void persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity... entities) {
         JpaOperations.persist(firstEntity, entities);
     }
+
+    /**
+     * Persist all given entities in batches, for inserting large numbers of entities.
+     * <p>
+     * The entities are flushed every {@code quarkus.hibernate-orm.jdbc.statement-batch-size} entities, so that their
+     * inserts are sent as JDBC batches, then detached from the persistence context to keep its memory usage bounded.
+     * Once this method returns, the persisted entities are therefore no longer managed: changes made to them afterwards
+     * are not saved. Entities which were already persistent are left unchanged.
+     *
+     * @param entities the entities to persist
+     * @see #persist(Iterable)
+     * @see #bulkPersist(Stream)
+     */
+    public default void bulkPersist(Iterable<Entity> entities) {
+        JpaOperations.bulkPersist(entities);
+    }
+
+    /**
+     * Persist all given entities in batches, for inserting large numbers of entities.
+     * <p>
+     * The entities are flushed every {@code quarkus.hibernate-orm.jdbc.statement-batch-size} entities, so that their
+     * inserts are sent as JDBC batches, then detached from the persistence context to keep its memory usage bounded.
+     * Once this method returns, the persisted entities are therefore no longer managed: changes made to them afterwards
+     * are not saved. Entities which were already persistent are left unchanged.
+     *
+     * @param entities the entities to persist
+     * @see #persist(Stream)
+     * @see #bulkPersist(Iterable)
+     */
+    public default void bulkPersist(Stream<Entity> entities) {
+        JpaOperations.bulkPersist(entities);
+    }
 }
@@ -0,0 +1,105 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The HQL queries derived from a Panache query for an entity, computed once and cached.
+ * <p>
+ * The queries found in the application at build time are derived at static init, the other ones the first time they
+ * are used. Only the derived strings are cached: Hibernate still looks up their compiled plans in its own plan cache.
+ */
+final class DerivedQuery {
+
+    private static final int MAX_CACHED_QUERIES = 1024;
+
+    private static final ClassValue<EntityQueries> ENTITY_QUERIES = new ClassValue<EntityQueries>() {
+        @Override
+        protected EntityQueries computeValue(Class<?> type) {
+            return new EntityQueries();
+        }
+    };
+
+    /**
+     * The query selecting the entities.
+     */
+    final String find;
+    /**
+     * The query counting the entities of {@link #find}, ignoring its {@code ORDER BY} clause.
+     */
+    final String countFind;
+    /**
+     * The query counting the entities, as used by the {@code count} operations.
+     */
+    final String count;
+    /**
+     * The {@code FROM} clause of {@link #find}, or {@code null} if the query was written in full HQL, in which case
+     * keyset pagination is not supported.
+     */
+    final String seekFrom;
+    /**
+     * The {@code WHERE} condition of {@link #find} without its {@code ORDER BY} clause, or {@code null} if it selects
+     * all the entities.
+     */
+    final String seekWhere;
+    /**
+     * Whether {@link #find} has its own {@code ORDER BY} clause, which keyset pagination cannot use.
+     */
+    final boolean ordered;
+
+    private DerivedQuery(String find, String countFind, String count, String seekFrom, String seekWhere,
+            boolean ordered) {
+        this.find = find;
+        this.countFind = countFind;
+        this.count = count;
+        this.seekFrom = seekFrom;
+        this.seekWhere = seekWhere;
+        this.ordered = ordered;
+    }
+
+    static DerivedQuery of(Class<?> entityClass, String query, int paramCount) {
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        // the shorthand form of a query depends on whether it has a single parameter
+        Map<String, DerivedQuery> queries = paramCount == 1 ? entityQueries.singleParameter
+                : entityQueries.otherParameters;
+        String key = query == null ? "" : query;
+        DerivedQuery derived = queries.get(key);
+        if (derived == null) {
+            derived = derive(entityClass, query, paramCount);
+            // dynamically built queries must not make the cache grow without bounds
+            if (queries.size() < MAX_CACHED_QUERIES) {
+                queries.putIfAbsent(key, derived);
+            }
+        }
+        return derived;
+    }
+
+    private static DerivedQuery derive(Class<?> entityClass, String query, int paramCount) {
+        String find = JpaOperations.createFindQuery(entityClass, query, paramCount);
+        // FIXME: this is crude but good enough for a first version
+        String countFind = find;
+        int orderByIndex = find.toLowerCase().lastIndexOf(" order by ");
+        if (orderByIndex != -1) {
+            countFind = countFind.substring(0, orderByIndex);
+        }
+        String seekFrom = null;
+        String seekWhere = null;
+        String trimmedLc = query == null ? "" : query.trim().toLowerCase();
+        if (trimmedLc.isEmpty()) {
+            seekFrom = find;
+        } else if (!trimmedLc.startsWith("from ") && !trimmedLc.startsWith("select ")
+                && !trimmedLc.startsWith("order by ")) {
+            // see JpaOperations.createFindQuery
+            seekFrom = "FROM " + JpaOperations.getEntityName(entityClass);
+            // the keyset query is sorted by the Sort of the query, see PanacheQueryImpl.after
+            seekWhere = countFind.substring(seekFrom.length() + " WHERE ".length());
+        }
+        return new DerivedQuery(find, "SELECT COUNT(*) " + countFind,
+                JpaOperations.createCountQuery(entityClass, query, paramCount), seekFrom, seekWhere, orderByIndex != -1);
+    }
+
+    private static final class EntityQueries {
+        final Map<String, DerivedQuery> singleParameter = new ConcurrentHashMap<>();
+        final Map<String, DerivedQuery> otherParameters = new ConcurrentHashMap<>();
+    }
+}
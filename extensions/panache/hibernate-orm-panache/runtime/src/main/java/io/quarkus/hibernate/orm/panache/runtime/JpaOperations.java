@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -11,6 +12,8 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
@@ -18,6 +21,11 @@ import io.quarkus.panache.common.Sort;
 
 public class JpaOperations {
 
+    /**
+     * The number of entities persisted between two flushes by the bulk operations when JDBC batching is disabled.
+     */
+    static final int DEFAULT_BULK_BATCH_SIZE = 50;
+
     //
     // Instance methods
 
@@ -52,6 +60,24 @@ public class JpaOperations {
         entities.forEach(entity -> persist(em, entity));
     }
 
+    public static void bulkPersist(Iterable<?> entities) {
+        EntityManager em = getEntityManager();
+        int batchSize = getBulkBatchSize(em);
+        List<Object> batch = new ArrayList<>(batchSize);
+        for (Object entity : entities) {
+            bulkPersist(em, batch, batchSize, entity);
+        }
+        flushAndDetach(em, batch);
+    }
+
+    public static void bulkPersist(Stream<?> entities) {
+        EntityManager em = getEntityManager();
+        int batchSize = getBulkBatchSize(em);
+        List<Object> batch = new ArrayList<>(batchSize);
+        entities.forEach(entity -> bulkPersist(em, batch, batchSize, entity));
+        flushAndDetach(em, batch);
+    }
+
     public static void delete(Object entity) {
         EntityManager em = getEntityManager();
         em.remove(entity);
@@ -68,6 +94,40 @@ public class JpaOperations {
     //
     // Private stuff
 
+    private static void bulkPersist(EntityManager em, List<Object> batch, int batchSize, Object entity) {
+        // entities which were already managed are left alone, including not detaching them
+        if (em.contains(entity)) {
+            return;
+        }
+        em.persist(entity);
+        batch.add(entity);
+        if (batch.size() == batchSize) {
+            flushAndDetach(em, batch);
+        }
+    }
+
+    private static void flushAndDetach(EntityManager em, List<Object> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // the inserts of the batch are sent as one JDBC batch, then the persistence context is relieved of them
+        em.flush();
+        for (Object entity : batch) {
+            em.detach(entity);
+        }
+        batch.clear();
+    }
+
+    /**
+     * @return the JDBC batch size configured with {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, or
+     *         {@link #DEFAULT_BULK_BATCH_SIZE} if JDBC batching is disabled
+     */
+    static int getBulkBatchSize(EntityManager em) {
+        int jdbcBatchSize = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions().getJdbcBatchSize();
+        return jdbcBatchSize > 0 ? jdbcBatchSize : DEFAULT_BULK_BATCH_SIZE;
+    }
+
     public static EntityManager getEntityManager() {
         EntityManager entityManager = Arc.container().instance(EntityManager.class).get();
         if (entityManager == null) {
@@ -106,12 +166,12 @@ public class JpaOperations {
         return params != null ? params.size() : 0;
     }
 
-    private static String getEntityName(Class<?> entityClass) {
+    static String getEntityName(Class<?> entityClass) {
         // FIXME: not true?
         return entityClass.getName();
     }
 
-    private static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+    static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "FROM " + getEntityName(entityClass);
 
@@ -132,7 +192,7 @@ public class JpaOperations {
         return "FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
-    private static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+    static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
 
@@ -202,12 +262,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        DerivedQuery derivedQuery = DerivedQuery.of(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
-        Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
+        Query jpaQuery = em.createQuery(sort != null ? derivedQuery.find + toOrderBy(sort) : derivedQuery.find);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, derivedQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -216,12 +276,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        DerivedQuery derivedQuery = DerivedQuery.of(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
-        Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
+        Query jpaQuery = em.createQuery(sort != null ? derivedQuery.find + toOrderBy(sort) : derivedQuery.find);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, derivedQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
@@ -282,17 +342,17 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass) {
-        String query = "FROM " + getEntityName(entityClass);
+        DerivedQuery derivedQuery = DerivedQuery.of(entityClass, null, 0);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(query), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(derivedQuery.find), derivedQuery, null, null);
     }
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass, Sort sort) {
-        String query = "FROM " + getEntityName(entityClass);
-        String sortedQuery = query + toOrderBy(sort);
+        DerivedQuery derivedQuery = DerivedQuery.of(entityClass, null, 0);
+        String sortedQuery = derivedQuery.find + toOrderBy(sort);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), derivedQuery, sort, null);
     }
 
     public static List<?> listAll(Class<?> entityClass) {
@@ -312,16 +372,18 @@ public class JpaOperations {
     }
 
     public static long count(Class<?> entityClass) {
-        return (long) getEntityManager().createQuery("SELECT COUNT(*) FROM " + getEntityName(entityClass)).getSingleResult();
+        return (long) getEntityManager().createQuery(DerivedQuery.of(entityClass, null, 0).count).getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
+        return (long) bindParameters(
+                getEntityManager().createQuery(DerivedQuery.of(entityClass, query, paramCount(params)).count),
                 params).getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
+        return (long) bindParameters(
+                getEntityManager().createQuery(DerivedQuery.of(entityClass, query, paramCount(params)).count),
                 params).getSingleResult();
     }
 
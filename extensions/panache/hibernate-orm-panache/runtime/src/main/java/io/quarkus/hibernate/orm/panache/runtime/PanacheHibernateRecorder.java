@@ -0,0 +1,54 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheHibernateRecorder {
+
+    /**
+     * Derive the HQL of the queries found in the application ahead of their first use.
+     *
+     * @param findQueries the queries of the find, list and stream operations, with their number of parameters, keyed by
+     *        entity class name
+     * @param countQueries the queries of the count operations, with their number of parameters, keyed by entity class
+     *        name
+     */
+    public void precomputeQueries(Map<String, Map<String, Integer>> findQueries,
+            Map<String, Map<String, Integer>> countQueries) {
+        Set<String> queries = new LinkedHashSet<>();
+        for (Map.Entry<String, Map<String, Integer>> entity : findQueries.entrySet()) {
+            Class<?> entityClass = loadClass(entity.getKey());
+            for (Map.Entry<String, Integer> query : entity.getValue().entrySet()) {
+                queries.add(precompute(entityClass, query.getKey(), query.getValue()).find);
+            }
+        }
+        for (Map.Entry<String, Map<String, Integer>> entity : countQueries.entrySet()) {
+            Class<?> entityClass = loadClass(entity.getKey());
+            for (Map.Entry<String, Integer> query : entity.getValue().entrySet()) {
+                queries.add(precompute(entityClass, query.getKey(), query.getValue()).count);
+            }
+        }
+        PanacheQueryValidator.setQueries(queries);
+    }
+
+    private static DerivedQuery precompute(Class<?> entityClass, String query, int paramCount) {
+        if (paramCount >= 0) {
+            return DerivedQuery.of(entityClass, query, paramCount);
+        }
+        // the derivation does not depend on the number of parameters, but the cache does
+        DerivedQuery.of(entityClass, query, 1);
+        return DerivedQuery.of(entityClass, query, 0);
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load entity class " + className, e);
+        }
+    }
+}
@@ -3,18 +3,27 @@ package io.quarkus.hibernate.orm.panache.runtime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionImplementor;
+
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
+    private static final String AFTER_PARAMETER = "panacheAfter";
+
     private Query jpaQuery;
     private Object paramsArrayOrMap;
-    private String query;
+    private DerivedQuery derivedQuery;
+    private Sort sort;
     private EntityManager em;
 
     /*
@@ -24,10 +33,20 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     private Page page;
     private Long count;
 
-    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Object paramsArrayOrMap) {
+    /*
+     * With keyset pagination, the values of the sort columns to start after, and the current page read with one more
+     * entity than the page size
+     */
+    private Object[] afterValues;
+    private List<?> keysetResults;
+    private Integer fetchSize;
+
+    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, DerivedQuery derivedQuery, Sort sort,
+            Object paramsArrayOrMap) {
         this.em = em;
         this.jpaQuery = jpaQuery;
-        this.query = query;
+        this.derivedQuery = derivedQuery;
+        this.sort = sort;
         this.paramsArrayOrMap = paramsArrayOrMap;
         page = new Page(0, Integer.MAX_VALUE);
     }
@@ -38,7 +57,10 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> PanacheQuery<T> page(Page page) {
         this.page = page;
-        jpaQuery.setFirstResult(page.index * page.size);
+        keysetResults = null;
+        if (afterValues == null) {
+            jpaQuery.setFirstResult(page.index * page.size);
+        }
         return (PanacheQuery<T>) this;
     }
 
@@ -67,13 +89,105 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(page.index(pageCount() - 1));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortValues) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            if (derivedQuery.ordered) {
+                throw new IllegalStateException("Keyset pagination requires the query to be sorted with a Sort instead of"
+                        + " an ORDER BY clause: " + derivedQuery.find);
+            }
+            throw new IllegalStateException("Keyset pagination requires a sorted query");
+        }
+        if (derivedQuery.seekFrom == null) {
+            throw new IllegalStateException("Keyset pagination is not supported for full HQL queries: " + derivedQuery.find);
+        }
+        if (lastSortValues.length != 0 && lastSortValues.length != sort.getColumns().size()) {
+            throw new IllegalArgumentException("Expected a value for each of the " + sort.getColumns().size()
+                    + " sort columns, but got " + lastSortValues.length);
+        }
+        afterValues = lastSortValues;
+        keysetResults = null;
+        jpaQuery = createKeysetQuery();
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Query createKeysetQuery() {
+        StringBuilder hql = new StringBuilder(derivedQuery.seekFrom);
+        boolean named = paramsArrayOrMap instanceof Map;
+        int firstPosition = named || paramsArrayOrMap == null ? 1 : ((Object[]) paramsArrayOrMap).length + 1;
+        if (derivedQuery.seekWhere != null || afterValues.length != 0) {
+            hql.append(" WHERE ");
+        }
+        if (derivedQuery.seekWhere != null) {
+            hql.append('(').append(derivedQuery.seekWhere).append(')');
+            if (afterValues.length != 0) {
+                hql.append(" AND ");
+            }
+        }
+        if (afterValues.length != 0) {
+            // (c1 > ?) OR (c1 = ? AND c2 > ?) OR ...
+            List<Sort.Column> columns = sort.getColumns();
+            hql.append('(');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    hql.append(" OR ");
+                }
+                hql.append('(');
+                for (int j = 0; j < i; j++) {
+                    hql.append(columns.get(j).getName()).append(" = ")
+                            .append(afterParameter(named, firstPosition, j)).append(" AND ");
+                }
+                Sort.Column column = columns.get(i);
+                hql.append(column.getName()).append(column.getDirection() != Sort.Direction.Ascending ? " < " : " > ")
+                        .append(afterParameter(named, firstPosition, i)).append(')');
+            }
+            hql.append(')');
+        }
+        hql.append(JpaOperations.toOrderBy(sort));
+
+        Query keysetQuery = em.createQuery(hql.toString());
+        if (named) {
+            JpaOperations.bindParameters(keysetQuery, (Map<String, Object>) paramsArrayOrMap);
+        } else {
+            JpaOperations.bindParameters(keysetQuery, (Object[]) paramsArrayOrMap);
+        }
+        for (int i = 0; i < afterValues.length; i++) {
+            if (named) {
+                keysetQuery.setParameter(AFTER_PARAMETER + i, afterValues[i]);
+            } else {
+                keysetQuery.setParameter(firstPosition + i, afterValues[i]);
+            }
+        }
+        return keysetQuery;
+    }
+
+    // the parameters of the query cannot mix positions and names
+    private static String afterParameter(boolean named, int firstPosition, int index) {
+        return named ? ":" + AFTER_PARAMETER + index : "?" + (firstPosition + index);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return (PanacheQuery<T>) this;
+    }
+
     @Override
     public boolean hasNextPage() {
+        if (afterValues != null) {
+            return keysetResults().size() > page.size;
+        }
         return page.index < (pageCount() - 1);
     }
 
     @Override
     public boolean hasPreviousPage() {
+        if (afterValues != null) {
+            return afterValues.length != 0;
+        }
         return page.index > 0;
     }
 
@@ -96,17 +210,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public long count() {
         if (count == null) {
-            // FIXME: this is crude but good enough for a first version
-            String lcQuery = query.toLowerCase();
-            int orderByIndex = lcQuery.lastIndexOf(" order by ");
-            if (orderByIndex != -1)
-                query = query.substring(0, orderByIndex);
-            Query countQuery = em.createQuery("SELECT COUNT(*) " + query);
+            Query jpaCountQuery = em.createQuery(derivedQuery.countFind);
             if (paramsArrayOrMap instanceof Map)
-                JpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
+                JpaOperations.bindParameters(jpaCountQuery, (Map<String, Object>) paramsArrayOrMap);
             else
-                JpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
-            count = (Long) countQuery.getSingleResult();
+                JpaOperations.bindParameters(jpaCountQuery, (Object[]) paramsArrayOrMap);
+            count = (Long) jpaCountQuery.getSingleResult();
         }
         return count;
     }
@@ -114,15 +223,51 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (afterValues != null) {
+            List<T> results = (List<T>) keysetResults();
+            return results.size() > page.size ? results.subList(0, page.size) : results;
+        }
         jpaQuery.setMaxResults(page.size);
         return jpaQuery.getResultList();
     }
 
+    /**
+     * Reads the current page with keyset pagination, with one more entity than the page size to know whether there
+     * is a next page.
+     */
+    private List<?> keysetResults() {
+        if (keysetResults == null) {
+            jpaQuery.setFirstResult(0);
+            jpaQuery.setMaxResults(page.size == Integer.MAX_VALUE ? page.size : page.size + 1);
+            keysetResults = jpaQuery.getResultList();
+        }
+        return keysetResults;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
+        return stream(false);
+    }
+
+    @Override
+    public <T extends Entity> Stream<T> streamDetached() {
+        return stream(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> Stream<T> stream(boolean detach) {
+        if (afterValues != null) {
+            return (Stream<T>) list().stream();
+        }
         jpaQuery.setMaxResults(page.size);
-        return jpaQuery.getResultStream();
+        org.hibernate.query.Query<?> hibernateQuery = jpaQuery.unwrap(org.hibernate.query.Query.class);
+        if (fetchSize != null) {
+            hibernateQuery.setFetchSize(fetchSize);
+        }
+        ScrollableResults results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        ScrollableResultsSpliterator<T> spliterator = new ScrollableResultsSpliterator<>(
+                em.unwrap(SessionImplementor.class), results, detach);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     @Override
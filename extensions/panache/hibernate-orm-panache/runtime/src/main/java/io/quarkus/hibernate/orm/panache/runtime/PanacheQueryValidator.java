@@ -0,0 +1,56 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Compiles the HQL of the queries found in the application at startup, so that an invalid query fails the startup
+ * instead of its first use, and its plan is in the Hibernate plan cache before the first request.
+ */
+@Singleton
+public class PanacheQueryValidator {
+
+    private static volatile Set<String> queries = Collections.emptySet();
+
+    static void setQueries(Set<String> hqlQueries) {
+        queries = hqlQueries;
+    }
+
+    void validate(@Observes StartupEvent event) {
+        Set<String> hqlQueries = queries;
+        if (hqlQueries.isEmpty()) {
+            return;
+        }
+        EntityManagerFactory entityManagerFactory = Arc.container().instance(EntityManagerFactory.class).get();
+        if (entityManagerFactory == null) {
+            return;
+        }
+        List<String> errors = new ArrayList<>();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (String query : hqlQueries) {
+                try {
+                    entityManager.createQuery(query);
+                } catch (IllegalArgumentException e) {
+                    errors.add(query + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException(
+                    "Invalid Panache queries found in the application:\n\t" + String.join("\n\t", errors));
+        }
+    }
+}
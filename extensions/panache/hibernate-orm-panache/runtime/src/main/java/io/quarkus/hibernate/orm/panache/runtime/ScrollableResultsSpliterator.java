@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Streams the results of a scroll. When detaching, each entity read by the scroll is detached from the session once
+ * the next result is read, so that the persistence context does not grow with the number of results. The entities
+ * that were already managed when the scroll was opened are left alone.
+ */
+final class ScrollableResultsSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final SessionImplementor session;
+    private final ScrollableResults results;
+    // null when not detaching
+    private final Set<Object> managedBefore;
+    private Object previous;
+
+    ScrollableResultsSpliterator(SessionImplementor session, ScrollableResults results, boolean detach) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.session = session;
+        this.results = results;
+        if (detach) {
+            managedBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContext().reentrantSafeEntityEntries()) {
+                managedBefore.add(entry.getKey());
+            }
+        } else {
+            managedBefore = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        detachPrevious();
+        if (!results.next()) {
+            close();
+            return false;
+        }
+        Object[] row = results.get();
+        Object result = row.length == 1 ? row[0] : row;
+        if (managedBefore != null) {
+            previous = result;
+        }
+        action.accept((T) result);
+        return true;
+    }
+
+    private void detachPrevious() {
+        Object entity = previous;
+        previous = null;
+        // projections are not managed, only entities are
+        if (entity != null && !managedBefore.contains(entity) && session.isOpen()
+                && session.getPersistenceContext().getEntry(entity) != null) {
+            session.evict(entity);
+        }
+    }
+
+    void close() {
+        detachPrevious();
+        results.close();
+    }
+}
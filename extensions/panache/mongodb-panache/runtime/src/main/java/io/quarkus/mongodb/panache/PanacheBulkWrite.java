@@ -0,0 +1,60 @@
+package io.quarkus.mongodb.panache;
+
+/**
+ * Interface representing a bulk write, which sends a mix of inserts, updates and deletes of entities to MongoDB in
+ * as few round trips as possible.
+ *
+ * The writes are grouped by collection and sent with one <code>bulkWrite</code> operation per collection, when
+ * {@link #execute()} is called. By default the bulk write is ordered: the writes of a collection are executed in the
+ * order they were added, stopping at the first failed write. An {@link #unordered()} bulk write lets the server
+ * execute them in any order and continue after a failed write, which is faster.
+ */
+public interface PanacheBulkWrite {
+
+    /**
+     * Adds the insert of the given entity.
+     *
+     * @param entity the entity to insert
+     * @return this bulk write, modified
+     */
+    public PanacheBulkWrite persist(Object entity);
+
+    /**
+     * Adds the update of the given entity.
+     *
+     * @param entity the entity to update
+     * @return this bulk write, modified
+     */
+    public PanacheBulkWrite update(Object entity);
+
+    /**
+     * Adds the insert of the given entity, or its update if it already exists.
+     *
+     * @param entity the entity to insert or update
+     * @return this bulk write, modified
+     */
+    public PanacheBulkWrite persistOrUpdate(Object entity);
+
+    /**
+     * Adds the delete of the given entity.
+     *
+     * @param entity the entity to delete
+     * @return this bulk write, modified
+     */
+    public PanacheBulkWrite delete(Object entity);
+
+    /**
+     * Makes this bulk write unordered: the server can execute its writes in any order, and a failed write does not
+     * prevent the other ones from being executed.
+     *
+     * @return this bulk write, modified
+     */
+    public PanacheBulkWrite unordered();
+
+    /**
+     * Sends the writes added to this bulk write to the database. Nothing is sent if no write was added.
+     *
+     * @throws com.mongodb.MongoBulkWriteException if some of the writes failed
+     */
+    public void execute();
+}
@@ -857,6 +857,17 @@ public interface PanacheMongoRepositoryBase<Entity, Id> {
         MongoOperations.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Create a bulk write, to insert, update and delete entities with a single <code>bulkWrite</code> operation per
+     * collection.
+     *
+     * @return a new, ordered, bulk write
+     * @see PanacheBulkWrite
+     */
+    public default PanacheBulkWrite bulkWrite() {
+        return MongoOperations.bulkWrite();
+    }
+
     /**
      * Allow to access the underlying Mongo Collection
      */
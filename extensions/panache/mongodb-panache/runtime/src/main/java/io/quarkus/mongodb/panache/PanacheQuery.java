@@ -72,9 +72,37 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
+    /**
+     * Switches this query to keyset pagination: the current page starts right after the entity whose values for the
+     * sort columns are the given ones, instead of skipping the entities of the previous pages. Pass the sort values
+     * of the last entity of a page to get the next one, whatever the depth of the page.
+     * <p>
+     * The query must be sorted, and the sort columns should identify an entity uniquely and never be
+     * <code>null</code>. Only the size of the current page is used, its index is ignored, and
+     * {@link #hasNextPage()} no longer reads the entity count.
+     * 
+     * @param lastSortValues the values of the sort columns of the last entity of the previous page, in the order of
+     *        the sort columns, or no value for the first page
+     * @return this query, modified
+     * @throws IllegalStateException if the query is not sorted
+     * @throws IllegalArgumentException if the number of values does not match the number of sort columns
+     * @see #hasNextPage()
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortValues);
+
+    /**
+     * Sets the number of documents returned by each batch of the MongoDB cursor.
+     * 
+     * @param batchSize the number of documents of a batch
+     * @return this query, modified
+     * @see #stream()
+     */
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize);
+
     /**
      * Returns true if there is another page to read after the current one.
-     * This will cause reading of the entity count.
+     * This will cause reading of the entity count, except with keyset pagination where one more entity than the page
+     * size is read instead.
      * 
      * @return true if there is another page to read
      * @see #hasPreviousPage()
@@ -130,8 +158,12 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns the current page of results as a {@link Stream}.
+     * <p>
+     * The results are read from a MongoDB cursor, one batch at a time, as the stream is consumed. The stream must be
+     * closed to release the cursor if it is not fully consumed.
      * 
      * @return the current page of results as a {@link Stream}.
+     * @see #withBatchSize(int)
      * @see #list()
      * @see #page(Page)
      * @see #page()
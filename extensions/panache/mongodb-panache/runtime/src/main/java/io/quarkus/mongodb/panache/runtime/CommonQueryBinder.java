@@ -18,6 +18,9 @@ final class CommonQueryBinder {
     }
 
     static String escape(Object value) {
+        if (value instanceof QueryTemplate.Parameter) {
+            return value.toString();
+        }
         if (Number.class.isAssignableFrom(value.getClass()) || value instanceof Boolean) {
             return value.toString();
         }
@@ -27,6 +27,7 @@ import com.mongodb.client.model.WriteModel;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.mongodb.panache.MongoEntity;
+import io.quarkus.mongodb.panache.PanacheBulkWrite;
 import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
@@ -166,10 +167,11 @@ public class MongoOperations {
 
     public static void delete(Object entity) {
         MongoCollection collection = mongoCollection(entity);
-        BsonDocument document = getBsonDocument(collection, entity);
-        BsonValue id = document.get(ID);
-        BsonDocument query = new BsonDocument().append(ID, id);
-        collection.deleteOne(query);
+        collection.deleteOne(idQuery(collection, entity));
+    }
+
+    public static PanacheBulkWrite bulkWrite() {
+        return new PanacheBulkWriteImpl();
     }
 
     public static MongoCollection mongoCollection(Class<?> entityClass) {
@@ -198,19 +200,16 @@ public class MongoOperations {
     }
 
     private static void update(MongoCollection collection, Object entity) {
-        //we transform the entity as a document first
-        BsonDocument document = getBsonDocument(collection, entity);
-
-        //then we get its id field and create a new Document with only this one that will be our replace query
-        BsonValue id = document.get(ID);
-        BsonDocument query = new BsonDocument().append(ID, id);
-        collection.replaceOne(query, entity);
+        collection.replaceOne(idQuery(collection, entity), entity);
     }
 
     private static void update(MongoCollection collection, List<Object> entities) {
+        //a single bulk instead of one round trip per entity, ordered so it fails at the first failed write
+        List<WriteModel> bulk = new ArrayList<>(entities.size());
         for (Object entity : entities) {
-            update(collection, entity);
+            bulk.add(new ReplaceOneModel(idQuery(collection, entity), entity));
         }
+        collection.bulkWrite(bulk);
     }
 
     private static void persistOrUpdate(MongoCollection collection, Object entity) {
@@ -231,27 +230,38 @@ public class MongoOperations {
 
     private static void persistOrUpdate(MongoCollection collection, List<Object> entities) {
         //this will be an ordered bulk: it's less performant than a unordered one but will fail at the first failed write
-        List<WriteModel> bulk = new ArrayList<>();
+        List<WriteModel> bulk = new ArrayList<>(entities.size());
         for (Object entity : entities) {
-            //we transform the entity as a document first
-            BsonDocument document = getBsonDocument(collection, entity);
-
-            //then we get its id field and create a new Document with only this one that will be our replace query
-            BsonValue id = document.get(ID);
-            if (id == null) {
-                //insert with autogenerated ID
-                bulk.add(new InsertOneModel(entity));
-            } else {
-                //insert with user provided ID or update
-                BsonDocument query = new BsonDocument().append(ID, id);
-                bulk.add(new ReplaceOneModel(query, entity,
-                        ReplaceOptions.createReplaceOptions(new UpdateOptions().upsert(true))));
-            }
+            bulk.add(persistOrUpdateModel(collection, entity));
         }
 
         collection.bulkWrite(bulk);
     }
 
+    static WriteModel persistOrUpdateModel(MongoCollection collection, Object entity) {
+        //we transform the entity as a document first
+        BsonDocument document = getBsonDocument(collection, entity);
+
+        //then we get its id field and create a new Document with only this one that will be our replace query
+        BsonValue id = document.get(ID);
+        if (id == null) {
+            //insert with autogenerated ID
+            return new InsertOneModel(entity);
+        }
+        //insert with user provided ID or update
+        BsonDocument query = new BsonDocument().append(ID, id);
+        return new ReplaceOneModel(query, entity, ReplaceOptions.createReplaceOptions(new UpdateOptions().upsert(true)));
+    }
+
+    /**
+     * @return a query matching the given entity by its id
+     */
+    static BsonDocument idQuery(MongoCollection collection, Object entity) {
+        //we transform the entity as a document first, then create a new Document with only its id field
+        BsonDocument document = getBsonDocument(collection, entity);
+        return new BsonDocument().append(ID, document.get(ID));
+    }
+
     private static BsonDocument getBsonDocument(MongoCollection collection, Object entity) {
         BsonDocument document = new BsonDocument();
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
@@ -288,13 +298,40 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, entityClass, docQuery, docSort);
     }
 
+    /**
+     * Bind the query through its cached {@link QueryTemplate}, falling back to binding it as a string.
+     */
+    static Document bindQueryDocument(Class<?> clazz, String query, Object[] params) {
+        Document docQuery = QueryTemplate.bind(clazz, query, params);
+        if (docQuery == null) {
+            return Document.parse(bindQuery(clazz, query, params));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(docQuery.toJson());
+        }
+        return docQuery;
+    }
+
+    /**
+     * Bind the query through its cached {@link QueryTemplate}, falling back to binding it as a string.
+     */
+    static Document bindQueryDocument(Class<?> clazz, String query, Map<String, Object> params) {
+        Document docQuery = QueryTemplate.bind(clazz, query, params);
+        if (docQuery == null) {
+            return Document.parse(bindQuery(clazz, query, params));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(docQuery.toJson());
+        }
+        return docQuery;
+    }
+
     /**
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1</code> for PanacheQL one.
@@ -341,8 +378,7 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, entityClass, docQuery, docSort);
@@ -487,15 +523,13 @@ public class MongoOperations {
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -516,15 +550,13 @@ public class MongoOperations {
     }
 
     public static long delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
 
     public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(entityClass, query, params);
-        Document docQuery = Document.parse(bindQuery);
+        Document docQuery = bindQueryDocument(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
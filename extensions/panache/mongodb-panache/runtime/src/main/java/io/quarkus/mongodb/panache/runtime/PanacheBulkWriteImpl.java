@@ -0,0 +1,86 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import io.quarkus.mongodb.panache.PanacheBulkWrite;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PanacheBulkWriteImpl implements PanacheBulkWrite {
+
+    // keeps the order in which the collections were first written to
+    private final Map<Class<?>, CollectionWrites> writes = new LinkedHashMap<>();
+    private boolean ordered = true;
+
+    PanacheBulkWriteImpl() {
+    }
+
+    @Override
+    public PanacheBulkWrite persist(Object entity) {
+        add(entity).models.add(new InsertOneModel(entity));
+        return this;
+    }
+
+    @Override
+    public PanacheBulkWrite update(Object entity) {
+        CollectionWrites collectionWrites = add(entity);
+        BsonDocument query = MongoOperations.idQuery(collectionWrites.collection, entity);
+        collectionWrites.models.add(new ReplaceOneModel(query, entity));
+        return this;
+    }
+
+    @Override
+    public PanacheBulkWrite persistOrUpdate(Object entity) {
+        CollectionWrites collectionWrites = add(entity);
+        collectionWrites.models.add(MongoOperations.persistOrUpdateModel(collectionWrites.collection, entity));
+        return this;
+    }
+
+    @Override
+    public PanacheBulkWrite delete(Object entity) {
+        CollectionWrites collectionWrites = add(entity);
+        BsonDocument query = MongoOperations.idQuery(collectionWrites.collection, entity);
+        collectionWrites.models.add(new DeleteOneModel(query));
+        return this;
+    }
+
+    @Override
+    public PanacheBulkWrite unordered() {
+        ordered = false;
+        return this;
+    }
+
+    @Override
+    public void execute() {
+        BulkWriteOptions options = new BulkWriteOptions().ordered(ordered);
+        for (CollectionWrites collectionWrites : writes.values()) {
+            collectionWrites.collection.bulkWrite(collectionWrites.models, options);
+        }
+        writes.clear();
+    }
+
+    private CollectionWrites add(Object entity) {
+        return writes.computeIfAbsent(entity.getClass(),
+                entityClass -> new CollectionWrites(MongoOperations.mongoCollection(entityClass)));
+    }
+
+    private static final class CollectionWrites {
+        final MongoCollection collection;
+        final List<WriteModel> models = new ArrayList<>();
+
+        CollectionWrites(MongoCollection collection) {
+            this.collection = collection;
+        }
+    }
+}
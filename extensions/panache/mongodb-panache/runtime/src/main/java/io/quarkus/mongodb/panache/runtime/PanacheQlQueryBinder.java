@@ -3,6 +3,7 @@ package io.quarkus.mongodb.panache.runtime;
 import java.beans.Introspector;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -50,8 +51,18 @@ public class PanacheQlQueryBinder {
         return replacementMap.getOrDefault(field, field);
     }
 
+    private static final ClassValue<Map<String, String>> REPLACEMENT_MAPS = new ClassValue<Map<String, String>>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return computeReplacementMap(type);
+        }
+    };
+
     private static Map<String, String> extractReplacementMap(Class<?> clazz) {
-        //TODO cache the replacement map or pre-compute it during build (using reflection or jandex)
+        return REPLACEMENT_MAPS.get(clazz);
+    }
+
+    private static Map<String, String> computeReplacementMap(Class<?> clazz) {
         Map<String, String> replacementMap = new HashMap<>();
         for (Field field : clazz.getDeclaredFields()) {
             BsonProperty bsonProperty = field.getAnnotation(BsonProperty.class);
@@ -69,7 +80,7 @@ public class PanacheQlQueryBinder {
                 }
             }
         }
-        return replacementMap;
+        return Collections.unmodifiableMap(replacementMap);
     }
 
     private static String prepareQuery(String query, Map<String, String> replacementMap, Map<String, Object> parameterMaps) {
@@ -1,8 +1,13 @@
 package io.quarkus.mongodb.panache.runtime;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.Document;
 
@@ -26,6 +31,14 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     private Page page;
     private Long count;
 
+    /*
+     * With keyset pagination, the values of the sort columns to start after, and the current page read with one more
+     * entity than the page size
+     */
+    private Object[] afterValues;
+    private List<?> keysetResults;
+    private Integer batchSize;
+
     PanacheQueryImpl(MongoCollection<? extends Entity> collection, Class<? extends Entity> entityClass, Document mongoQuery,
             Document sort) {
         this.collection = collection;
@@ -41,6 +54,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> PanacheQuery<T> page(Page page) {
         this.page = page;
+        keysetResults = null;
         return (PanacheQuery<T>) this;
     }
 
@@ -69,13 +83,65 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(page.index(pageCount() - 1));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortValues) {
+        if (sort == null || sort.isEmpty()) {
+            throw new IllegalStateException("Keyset pagination requires a sorted query");
+        }
+        if (lastSortValues.length != 0 && lastSortValues.length != sort.size()) {
+            throw new IllegalArgumentException("Expected a value for each of the " + sort.size()
+                    + " sort fields, but got " + lastSortValues.length);
+        }
+        afterValues = lastSortValues;
+        keysetResults = null;
+        return (PanacheQuery<T>) this;
+    }
+
+    private Document keysetQuery() {
+        if (afterValues.length == 0) {
+            return mongoQuery;
+        }
+        // {'$or': [{'f1': {'$gt': v1}}, {'f1': v1, 'f2': {'$gt': v2}}, ...]}
+        List<String> fields = new ArrayList<>(sort.keySet());
+        List<Document> clauses = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            Document clause = new Document();
+            for (int j = 0; j < i; j++) {
+                clause.append(fields.get(j), afterValues[j]);
+            }
+            String field = fields.get(i);
+            clause.append(field, new Document(isDescending(sort.get(field)) ? "$lt" : "$gt", afterValues[i]));
+            clauses.add(clause);
+        }
+        Document seek = new Document("$or", clauses);
+        return mongoQuery == null || mongoQuery.isEmpty() ? seek : new Document("$and", Arrays.asList(mongoQuery, seek));
+    }
+
+    private static boolean isDescending(Object direction) {
+        return direction instanceof Number && ((Number) direction).intValue() < 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return (PanacheQuery<T>) this;
+    }
+
     @Override
     public boolean hasNextPage() {
+        if (afterValues != null) {
+            return keysetResults().size() > page.size;
+        }
         return page.index < (pageCount() - 1);
     }
 
     @Override
     public boolean hasPreviousPage() {
+        if (afterValues != null) {
+            return afterValues.length != 0;
+        }
         return page.index > 0;
     }
 
@@ -106,9 +172,28 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (afterValues != null) {
+            List<T> results = (List<T>) keysetResults();
+            return results.size() > page.size ? results.subList(0, page.size) : results;
+        }
+        return list(mongoQuery, page.index, page.size);
+    }
+
+    /**
+     * Reads the current page with keyset pagination, with one more entity than the page size to know whether there
+     * is a next page.
+     */
+    private List<?> keysetResults() {
+        if (keysetResults == null) {
+            keysetResults = list(keysetQuery(), 0, page.size == Integer.MAX_VALUE ? page.size : page.size + 1);
+        }
+        return keysetResults;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> List<T> list(Document query, int skip, int limit) {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
-        MongoCursor<T> cursor = find.sort(sort).skip(page.index).limit(page.size).iterator();
+        MongoCursor<T> cursor = cursor(query, skip, limit);
 
         try {
             while (cursor.hasNext()) {
@@ -121,10 +206,35 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return list;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> MongoCursor<T> cursor(Document query, int skip, int limit) {
+        FindIterable find = query == null ? collection.find() : collection.find(query);
+        find.sort(sort).skip(skip).limit(limit);
+        if (batchSize != null) {
+            find.batchSize(batchSize);
+        }
+        return find.iterator();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
-        return (Stream<T>) list().stream();
+        if (afterValues != null) {
+            return (Stream<T>) list().stream();
+        }
+        MongoCursor<T> cursor = cursor(mongoQuery, page.index, page.size);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!cursor.hasNext()) {
+                    cursor.close();
+                    return false;
+                }
+                action.accept(cursor.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(cursor::close);
     }
 
     @Override
@@ -0,0 +1,249 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+
+/**
+ * A PanacheQL or native query parsed once into a BSON document, whose parameters are bound on every invocation
+ * without going through JSON.
+ * <p>
+ * The template is created by binding markers in place of the parameters with the regular query binders and parsing
+ * the result, so the documents it produces are the ones {@link Document#parse(String)} would have returned for the
+ * bound query string. Queries where a parameter does not end up as a whole value, e.g. inside a quoted string, cannot
+ * be templated and are still bound as strings.
+ */
+final class QueryTemplate {
+
+    private static final String PARAMETER_KEY = "$quarkusParameter";
+    private static final int MAX_CACHED_QUERIES = 1024;
+
+    private static final QueryTemplate UNSUPPORTED = new QueryTemplate(null, null, -1);
+    private static final Object INVALID = new Object();
+
+    private static final ClassValue<Map<String, QueryTemplate>> INDEXED_TEMPLATES = new ClassValue<Map<String, QueryTemplate>>() {
+        @Override
+        protected Map<String, QueryTemplate> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<Map<String, QueryTemplate>> NAMED_TEMPLATES = new ClassValue<Map<String, QueryTemplate>>() {
+        @Override
+        protected Map<String, QueryTemplate> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Object template;
+    private final String[] names;
+    private final int parameterCount;
+
+    private QueryTemplate(Object template, String[] names, int parameterCount) {
+        this.template = template;
+        this.names = names;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * @return the bound query, or {@code null} if the query must be bound as a string
+     */
+    static Document bind(Class<?> clazz, String query, Object[] params) {
+        Map<String, QueryTemplate> templates = INDEXED_TEMPLATES.get(clazz);
+        QueryTemplate template = templates.get(query);
+        if (template == null) {
+            template = compile(clazz, query, params);
+            cache(templates, query, template);
+        }
+        if (template == UNSUPPORTED || template.parameterCount != params.length) {
+            return null;
+        }
+        Object[] values = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            values[i] = toBsonValue(params[i]);
+        }
+        return (Document) bindNode(template.template, values);
+    }
+
+    /**
+     * @return the bound query, or {@code null} if the query must be bound as a string
+     */
+    static Document bind(Class<?> clazz, String query, Map<String, Object> params) {
+        Map<String, QueryTemplate> templates = NAMED_TEMPLATES.get(clazz);
+        QueryTemplate template = templates.get(query);
+        if (template == null) {
+            template = compile(clazz, query, params);
+            cache(templates, query, template);
+        }
+        // the parameter names are part of the template for native queries, they must be the same
+        if (template == UNSUPPORTED || template.parameterCount != params.size()) {
+            return null;
+        }
+        Object[] values = new Object[template.parameterCount];
+        for (int i = 0; i < values.length; i++) {
+            String name = template.names[i];
+            if (!params.containsKey(name)) {
+                return null;
+            }
+            values[i] = toBsonValue(params.get(name));
+        }
+        return (Document) bindNode(template.template, values);
+    }
+
+    private static void cache(Map<String, QueryTemplate> templates, String query, QueryTemplate template) {
+        // dynamically built queries must not make the cache grow without bounds
+        if (templates.size() < MAX_CACHED_QUERIES) {
+            templates.putIfAbsent(query, template);
+        }
+    }
+
+    private static QueryTemplate compile(Class<?> clazz, String query, Object[] params) {
+        Object[] markers = new Object[params.length];
+        for (int i = 0; i < markers.length; i++) {
+            markers[i] = new Parameter(i);
+        }
+        try {
+            String bindQuery = query.charAt(0) == '{'
+                    ? NativeQueryBinder.bindQuery(query, markers)
+                    : PanacheQlQueryBinder.bindQuery(clazz, query, markers);
+            return create(bindQuery, null, markers.length);
+        } catch (RuntimeException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static QueryTemplate compile(Class<?> clazz, String query, Map<String, Object> params) {
+        // keep the iteration order of the parameters, native queries are bound in that order
+        String[] names = params.keySet().toArray(new String[0]);
+        Map<String, Object> markers = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            markers.put(names[i], new Parameter(i));
+        }
+        try {
+            String bindQuery = query.charAt(0) == '{'
+                    ? NativeQueryBinder.bindQuery(query, markers)
+                    : PanacheQlQueryBinder.bindQuery(clazz, query, markers);
+            return create(bindQuery, names, names.length);
+        } catch (RuntimeException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static QueryTemplate create(String bindQuery, String[] names, int parameterCount) {
+        Object template = compileNode(Document.parse(bindQuery), parameterCount);
+        return template == INVALID ? UNSUPPORTED : new QueryTemplate(template, names, parameterCount);
+    }
+
+    private static Object compileNode(Object node, int parameterCount) {
+        if (node instanceof Document) {
+            Document document = (Document) node;
+            Object index = document.get(PARAMETER_KEY);
+            if (index != null) {
+                if (document.size() != 1 || !(index instanceof Integer) || (Integer) index < 0
+                        || (Integer) index >= parameterCount) {
+                    return INVALID;
+                }
+                return new Parameter((Integer) index);
+            }
+            Document compiled = new Document();
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                Object value = compileNode(entry.getValue(), parameterCount);
+                if (value == INVALID || entry.getKey().contains(PARAMETER_KEY)) {
+                    return INVALID;
+                }
+                compiled.put(entry.getKey(), value);
+            }
+            return compiled;
+        }
+        if (node instanceof List) {
+            List<?> list = (List<?>) node;
+            List<Object> compiled = new ArrayList<>(list.size());
+            for (Object element : list) {
+                Object value = compileNode(element, parameterCount);
+                if (value == INVALID) {
+                    return INVALID;
+                }
+                compiled.add(value);
+            }
+            return compiled;
+        }
+        if (node instanceof String && ((String) node).contains(PARAMETER_KEY)) {
+            // a parameter bound inside a string literal
+            return INVALID;
+        }
+        return node;
+    }
+
+    private static Object bindNode(Object node, Object[] values) {
+        if (node instanceof Parameter) {
+            return values[((Parameter) node).index];
+        }
+        if (node instanceof Document) {
+            Document document = (Document) node;
+            Document bound = new Document();
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                bound.put(entry.getKey(), bindNode(entry.getValue(), values));
+            }
+            return bound;
+        }
+        if (node instanceof List) {
+            List<?> list = (List<?>) node;
+            List<Object> bound = new ArrayList<>(list.size());
+            for (Object element : list) {
+                bound.add(bindNode(element, values));
+            }
+            return bound;
+        }
+        if (node instanceof Date) {
+            return new Date(((Date) node).getTime());
+        }
+        return node;
+    }
+
+    /**
+     * Convert a parameter to the value {@link Document#parse(String)} returns for its escaped form, see
+     * {@link CommonQueryBinder#escape(Object)}.
+     */
+    static Object toBsonValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Double) {
+            return value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Long) {
+            long longValue = (Long) value;
+            return longValue == (int) longValue ? Integer.valueOf((int) longValue) : value;
+        }
+        if (value instanceof Float && !((Float) value).isNaN() && !((Float) value).isInfinite()) {
+            return Double.parseDouble(value.toString());
+        }
+        if (!(value instanceof Number) && !(value instanceof Date) && !(value instanceof LocalDate)
+                && !(value instanceof LocalDateTime)) {
+            return value.toString();
+        }
+        // dates and less common numbers keep the conversion of their JSON form
+        return Document.parse("{'value':" + CommonQueryBinder.escape(value) + "}").get("value");
+    }
+
+    static final class Parameter {
+
+        final int index;
+
+        Parameter(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            return "{'" + PARAMETER_KEY + "':" + index + "}";
+        }
+    }
+}
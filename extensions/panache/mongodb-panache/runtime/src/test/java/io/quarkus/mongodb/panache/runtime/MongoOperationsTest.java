@@ -6,7 +6,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Map;
 
+import org.bson.Document;
 import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.junit.jupiter.api.Test;
 
@@ -205,4 +207,40 @@ class MongoOperationsTest {
         assertEquals("{'field':{'$regex':'a value'}}", query);
     }
 
+    @Test
+    public void testBindQueryDocument() {
+        assertBoundAsString(Object.class, "field", new Object[] { "a 'quoted' value" });
+        assertBoundAsString(Object.class, "field", new Object[] { 5L });
+        assertBoundAsString(Object.class, "field", new Object[] { Long.MAX_VALUE });
+        assertBoundAsString(Object.class, "field", new Object[] { 1.5f });
+        assertBoundAsString(Object.class, "field", new Object[] { LocalDate.of(2019, 3, 4) });
+        assertBoundAsString(DemoObj.class, "property", new Object[] { "a value" });
+        assertBoundAsString(Object.class, "{'field': ?1, 'isOk': ?2}", new Object[] { "a value", true });
+        assertBoundAsString(Object.class, "{'field': {'$in': [?1, ?2]}}", new Object[] { 1, 2 });
+        assertBoundAsString(Object.class, "field = ?1 or isOk = ?2", new Object[] { "a value", true });
+        assertBoundAsString(Object.class, "count >= ?1 and count < ?2", new Object[] { 5, 10 });
+        assertBoundAsString(Object.class, "field is null", new Object[] {});
+        assertBoundAsString(Object.class, "{'field': :field}", Parameters.with("field", "a value").map());
+        assertBoundAsString(DemoObj.class, "property = :field and isOk = :isOk",
+                Parameters.with("field", "a value").and("isOk", true).map());
+
+        // the template is reused with other values
+        Document query = MongoOperations.bindQueryDocument(Object.class, "field = ?1 or isOk = ?2",
+                new Object[] { "another value", false });
+        assertEquals(Document.parse("{'$or':[{'field':'another value'},{'isOk':false}]}"), query);
+
+        // parameters inside a string literal cannot be templated, they are still bound as strings
+        query = MongoOperations.bindQueryDocument(Object.class, "{'field': \"?1\"}", new Object[] { 1 });
+        assertEquals(Document.parse("{'field': \"1\"}"), query);
+    }
+
+    private void assertBoundAsString(Class<?> clazz, String query, Object[] params) {
+        assertEquals(Document.parse(MongoOperations.bindQuery(clazz, query, params)),
+                MongoOperations.bindQueryDocument(clazz, query, params));
+    }
+
+    private void assertBoundAsString(Class<?> clazz, String query, Map<String, Object> params) {
+        assertEquals(Document.parse(MongoOperations.bindQuery(clazz, query, params)),
+                MongoOperations.bindQueryDocument(clazz, query, params));
+    }
 }
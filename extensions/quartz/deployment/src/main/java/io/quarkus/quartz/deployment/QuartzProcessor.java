@@ -17,8 +17,12 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.quartz.runtime.JdbcJobStoreSupport;
+import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
+import io.quarkus.quartz.runtime.QuartzBuildTimeConfig.StoreType;
 import io.quarkus.quartz.runtime.QuartzRecorder;
 import io.quarkus.quartz.runtime.QuartzRuntimeConfig;
 import io.quarkus.quartz.runtime.QuartzScheduler;
@@ -40,14 +44,27 @@ public class QuartzProcessor {
     }
 
     @BuildStep
-    List<ReflectiveClassBuildItem> reflectiveClasses() {
+    List<ReflectiveClassBuildItem> reflectiveClasses(QuartzBuildTimeConfig config) {
         List<ReflectiveClassBuildItem> reflectiveClasses = new ArrayList<>();
         reflectiveClasses.add(new ReflectiveClassBuildItem(false, false, CascadingClassLoadHelper.class.getName()));
         reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, SimpleThreadPool.class.getName()));
-        reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, RAMJobStore.class.getName()));
+        if (config.storeType == StoreType.DB) {
+            for (String jobStoreClass : JdbcJobStoreSupport.getJobStoreClasses()) {
+                reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, jobStoreClass));
+            }
+        } else {
+            reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, RAMJobStore.class.getName()));
+        }
         return reflectiveClasses;
     }
 
+    @BuildStep
+    void schemaScripts(QuartzBuildTimeConfig config, BuildProducer<NativeImageResourceBuildItem> resources) {
+        if (config.storeType == StoreType.DB) {
+            resources.produce(new NativeImageResourceBuildItem(JdbcJobStoreSupport.getSchemaScripts()));
+        }
+    }
+
     @BuildStep
     public void logCleanup(BuildProducer<LogCleanupFilterBuildItem> logCleanupFilter) {
         logCleanupFilter.produce(new LogCleanupFilterBuildItem("org.quartz.impl.StdSchedulerFactory",
@@ -70,9 +87,9 @@ public class QuartzProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void build(QuartzRuntimeConfig runtimeConfig, QuartzRecorder recorder, BeanContainerBuildItem beanContainer,
-            BuildProducer<ServiceStartBuildItem> serviceStart) {
-        recorder.initialize(runtimeConfig, beanContainer.getValue());
+    public void build(QuartzRuntimeConfig runtimeConfig, QuartzBuildTimeConfig buildTimeConfig, QuartzRecorder recorder,
+            BeanContainerBuildItem beanContainer, BuildProducer<ServiceStartBuildItem> serviceStart) {
+        recorder.initialize(runtimeConfig, buildTimeConfig, beanContainer.getValue());
         // Make sure that StartupEvent is fired after the init
         serviceStart.produce(new ServiceStartBuildItem("quartz"));
     }
@@ -0,0 +1,68 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcStoreClusteredTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.datasource.url=jdbc:h2:tcp://localhost/mem:quartz\n"
+                            + "quarkus.datasource.driver=org.h2.Driver\n"
+                            + "quarkus.quartz.store-type=db\n"
+                            + "quarkus.quartz.clustered=true\n"
+                            + "quarkus.quartz.batch-trigger-acquisition-max-count=5"),
+                            "application.properties"));
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    public void testJobsStoredInDatabase() throws InterruptedException, SQLException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM QRTZ_TRIGGERS")) {
+                assertTrue(result.next());
+                assertEquals(1, result.getInt(1));
+            }
+            // The node checked in
+            try (ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM QRTZ_SCHEDULER_STATE")) {
+                assertTrue(result.next());
+                assertEquals(1, result.getInt(1));
+            }
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        void checkEverySecond() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
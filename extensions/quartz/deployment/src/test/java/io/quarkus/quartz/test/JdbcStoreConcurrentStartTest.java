@@ -0,0 +1,181 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobExecutionContext;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.SchedulerRepository;
+
+import io.quarkus.quartz.runtime.QuartzBuildTimeConfig;
+import io.quarkus.quartz.runtime.QuartzRuntimeConfig;
+import io.quarkus.quartz.runtime.QuartzScheduler;
+import io.quarkus.quartz.runtime.QuartzSupport;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.runtime.SchedulerSupport;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcStoreConcurrentStartTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class, StaleJob.class)
+                    .addAsResource(new StringAsset("quarkus.datasource.url=jdbc:h2:tcp://localhost/mem:quartz_nodes\n"
+                            + "quarkus.datasource.driver=org.h2.Driver\n"
+                            + "quarkus.quartz.store-type=db\n"
+                            + "quarkus.quartz.clustered=true"),
+                            "application.properties"));
+
+    @Inject
+    SchedulerSupport schedulerSupport;
+
+    @Inject
+    QuartzSupport quartzSupport;
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    public void testNodesStartedConcurrently() throws Exception {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+
+        // Each node has its own scheduler name, otherwise the nodes would share the same scheduler in this JVM
+        List<String> nodes = Arrays.asList("node-0", "node-1");
+        try {
+            // A previous run of the first node left a job whose scheduled method no longer exists
+            startNode(nodes.get(0));
+            org.quartz.Scheduler previous = SchedulerRepository.getInstance().lookup(nodes.get(0));
+            previous.scheduleJob(JobBuilder.newJob(StaleJob.class).withIdentity("0_stale", Scheduler.class.getName()).build(),
+                    TriggerBuilder.newTrigger().withIdentity("0_stale_trigger", Scheduler.class.getName())
+                            .startAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1))).build());
+            previous.shutdown();
+
+            // The nodes sharing the database store their jobs at the same time
+            CyclicBarrier barrier = new CyclicBarrier(nodes.size());
+            ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+            try {
+                List<Future<QuartzScheduler>> started = new ArrayList<>();
+                for (String node : nodes) {
+                    started.add(executor.submit(() -> {
+                        barrier.await();
+                        return startNode(node);
+                    }));
+                }
+                for (Future<QuartzScheduler> node : started) {
+                    assertNotNull(node.get(10, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            for (String node : nodes) {
+                org.quartz.Scheduler quartz = SchedulerRepository.getInstance().lookup(node);
+                assertNotNull(quartz, node);
+                assertEquals(node, quartz.getSchedulerName());
+                List<String> triggers = getTriggerNames(node);
+                assertEquals(2, triggers.size(), "Unexpected triggers of " + node + ": " + triggers);
+                for (String trigger : triggers) {
+                    assertFalse(trigger.contains("stale"), "Stale trigger not deleted: " + trigger);
+                    assertTrue(trigger.endsWith("_0_trigger") || trigger.endsWith("_1_trigger"), trigger);
+                }
+            }
+        } finally {
+            for (String node : nodes) {
+                org.quartz.Scheduler quartz = SchedulerRepository.getInstance().lookup(node);
+                if (quartz != null) {
+                    quartz.shutdown();
+                }
+            }
+        }
+    }
+
+    private QuartzScheduler startNode(String name) {
+        QuartzRuntimeConfig runtimeConfig = quartzSupport.getRuntimeConfig();
+        QuartzRuntimeConfig nodeConfig = new QuartzRuntimeConfig();
+        nodeConfig.threadCount = runtimeConfig.threadCount;
+        nodeConfig.threadPriority = runtimeConfig.threadPriority;
+        nodeConfig.clusterCheckinInterval = runtimeConfig.clusterCheckinInterval;
+        nodeConfig.batchTriggerAcquisitionMaxCount = runtimeConfig.batchTriggerAcquisitionMaxCount;
+        nodeConfig.instanceName = name;
+        nodeConfig.deleteStaleJobs = true;
+        QuartzSupport nodeSupport = new QuartzSupport() {
+
+            @Override
+            public QuartzRuntimeConfig getRuntimeConfig() {
+                return nodeConfig;
+            }
+
+            @Override
+            public QuartzBuildTimeConfig getBuildTimeConfig() {
+                return quartzSupport.getBuildTimeConfig();
+            }
+        };
+        return new QuartzScheduler(schedulerSupport, nodeSupport, ConfigProvider.getConfig());
+    }
+
+    private List<String> getTriggerNames(String schedulerName) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection
+                        .prepareStatement("SELECT TRIGGER_NAME FROM QRTZ_TRIGGERS WHERE SCHED_NAME = ?")) {
+            statement.setString(1, schedulerName);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    names.add(result.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        @Scheduled(cron = "0/1 * * * * ?")
+        void checkEverySecond() {
+            LATCH.countDown();
+        }
+
+    }
+
+    public static class StaleJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext context) {
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+package io.quarkus.quartz.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.impl.jdbcjobstore.PostgreSQLDelegate;
+import org.quartz.impl.jdbcjobstore.StdJDBCDelegate;
+import org.quartz.utils.DBConnectionManager;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Configures the JDBC job store of Quartz on top of a datasource managed by Quarkus, and creates the Quartz tables if
+ * they do not exist yet.
+ */
+public final class JdbcJobStoreSupport {
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcJobStoreSupport.class.getName());
+
+    static final String DATA_SOURCE_NAME = "QUARKUS_QUARTZ_DATASOURCE";
+    static final String TABLE_PREFIX = "QRTZ_";
+    private static final String SCRIPTS_PATH = "org/quartz/impl/jdbcjobstore/";
+
+    private JdbcJobStoreSupport() {
+    }
+
+    /**
+     *
+     * @return the paths of the schema scripts, which must be available at runtime
+     */
+    public static List<String> getSchemaScripts() {
+        List<String> scripts = new ArrayList<>();
+        for (Database database : Database.values()) {
+            if (database.script != null && !scripts.contains(SCRIPTS_PATH + database.script)) {
+                scripts.add(SCRIPTS_PATH + database.script);
+            }
+        }
+        return scripts;
+    }
+
+    /**
+     *
+     * @return the names of the job store classes instantiated by Quartz
+     */
+    public static List<String> getJobStoreClasses() {
+        return Arrays.asList(JobStoreTX.class.getName(), StdJDBCDelegate.class.getName(),
+                PostgreSQLDelegate.class.getName());
+    }
+
+    static void configure(Properties props, QuartzBuildTimeConfig buildTimeConfig, QuartzRuntimeConfig runtimeConfig) {
+        DataSource dataSource = getDataSource(buildTimeConfig.dataSource);
+        Database database;
+        try (Connection connection = dataSource.getConnection()) {
+            database = Database.of(connection.getMetaData().getDatabaseProductName());
+            if (!tablesExist(connection)) {
+                createTables(connection, database);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to initialize the Quartz job store", e);
+        }
+        // The job store looks up the connection provider by name
+        DBConnectionManager.getInstance().addConnectionProvider(DATA_SOURCE_NAME,
+                new QuarkusQuartzConnectionProvider(dataSource));
+
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, JobStoreTX.class.getName());
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".driverDelegateClass", database.delegate);
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".dataSource", DATA_SOURCE_NAME);
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".tablePrefix", TABLE_PREFIX);
+        // The job data only contains strings, no need to serialize it
+        props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".useProperties", "true");
+        if (runtimeConfig.batchTriggerAcquisitionMaxCount > 1) {
+            // Recommended by Quartz when the triggers are acquired in batches
+            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".acquireTriggersWithinLock", "true");
+        }
+        if (buildTimeConfig.clustered) {
+            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".isClustered", "true");
+            props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".clusterCheckinInterval",
+                    "" + runtimeConfig.clusterCheckinInterval.toMillis());
+            // Each node of the cluster must have its own identifier
+            props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID, StdSchedulerFactory.AUTO_GENERATE_INSTANCE_ID);
+        }
+    }
+
+    private static DataSource getDataSource(Optional<String> name) {
+        InstanceHandle<DataSource> handle;
+        if (name.isPresent()) {
+            handle = Arc.container().instance(name.get());
+        } else {
+            handle = Arc.container().instance(DataSource.class);
+        }
+        if (!handle.isAvailable()) {
+            throw new IllegalStateException("The Quartz job store requires a datasource but "
+                    + (name.isPresent() ? "the datasource '" + name.get() + "' was not found"
+                            : "no default datasource was found"));
+        }
+        return handle.get();
+    }
+
+    private static boolean tablesExist(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // Unquoted identifiers are stored in upper case by most databases, in lower case by PostgreSQL
+        for (String table : new String[] { TABLE_PREFIX + "LOCKS", (TABLE_PREFIX + "LOCKS").toLowerCase(Locale.ROOT) }) {
+            try (ResultSet tables = metaData.getTables(null, null, table, null)) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void createTables(Connection connection, Database database) throws SQLException {
+        if (database.script == null) {
+            LOGGER.warnf("Unable to create the Quartz tables for %s, they must be created manually", database.name);
+            return;
+        }
+        List<String> statements;
+        try {
+            statements = readStatements(SCRIPTS_PATH + database.script);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the Quartz schema script " + database.script, e);
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+            connection.commit();
+            LOGGER.infof("Quartz tables created from %s", database.script);
+        } catch (SQLException e) {
+            connection.rollback();
+            // Another node of the cluster may have created them in the meantime
+            if (!tablesExist(connection)) {
+                throw e;
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    static List<String> readStatements(String script) throws IOException {
+        InputStream in = JdbcJobStoreSupport.class.getClassLoader().getResourceAsStream(script);
+        if (in == null) {
+            throw new IOException("Script not found: " + script);
+        }
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--") || trimmed.startsWith("#")) {
+                    continue;
+                }
+                current.append(trimmed).append(' ');
+                if (trimmed.endsWith(";")) {
+                    addStatement(statements, current);
+                    current.setLength(0);
+                }
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String statement = current.toString().trim();
+        if (statement.endsWith(";")) {
+            statement = statement.substring(0, statement.length() - 1).trim();
+        }
+        String lowerCase = statement.toLowerCase(Locale.ROOT);
+        // The tables do not exist and the transaction is managed here
+        if (statement.isEmpty() || lowerCase.startsWith("drop ") || lowerCase.equals("commit")) {
+            return;
+        }
+        statements.add(statement);
+    }
+
+    enum Database {
+
+        H2("H2", StdJDBCDelegate.class.getName(), "tables_h2.sql"),
+        POSTGRESQL("PostgreSQL", PostgreSQLDelegate.class.getName(), "tables_postgres.sql"),
+        MYSQL("MySQL", StdJDBCDelegate.class.getName(), "tables_mysql_innodb.sql"),
+        MARIADB("MariaDB", StdJDBCDelegate.class.getName(), "tables_mysql_innodb.sql"),
+        OTHER("other databases", StdJDBCDelegate.class.getName(), null);
+
+        final String name;
+        final String delegate;
+        final String script;
+
+        Database(String name, String delegate, String script) {
+            this.name = name;
+            this.delegate = delegate;
+            this.script = script;
+        }
+
+        static Database of(String productName) {
+            for (Database database : values()) {
+                if (database != OTHER && database.name.equalsIgnoreCase(productName)) {
+                    return database;
+                }
+            }
+            return OTHER;
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.quartz.runtime;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.quartz.utils.ConnectionProvider;
+
+/**
+ * Provides the connections of the job store from a datasource managed by Quarkus. The pool is closed by Quarkus, not
+ * by Quartz.
+ */
+class QuarkusQuartzConnectionProvider implements ConnectionProvider {
+
+    private final DataSource dataSource;
+
+    QuarkusQuartzConnectionProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void shutdown() {
+        // Do nothing
+    }
+
+    @Override
+    public void initialize() {
+        // Do nothing
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.quarkus.quartz.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class QuartzBuildTimeConfig {
+
+    /**
+     * The type of store to use.
+     * <p>
+     * When using the `db` store type configuration value make sure that you have the datasource configured.
+     * The Quartz tables are created in the database if they do not exist yet.
+     */
+    @ConfigItem(defaultValue = "ram")
+    public StoreType storeType;
+
+    /**
+     * The name of the datasource to use.
+     * <p>
+     * Only used with the `db` store type. The default datasource is used if not set.
+     */
+    @ConfigItem
+    public Optional<String> dataSource;
+
+    /**
+     * Enable cluster mode or not.
+     * <p>
+     * In cluster mode, the triggers are stored in the database and each one is fired by a single node of the cluster,
+     * which balances the load between the nodes. Only used with the `db` store type.
+     */
+    @ConfigItem
+    public boolean clustered;
+
+    public enum StoreType {
+        RAM,
+        DB
+    }
+
+}
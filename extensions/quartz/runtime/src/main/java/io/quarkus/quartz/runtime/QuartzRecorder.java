@@ -6,9 +6,10 @@ import io.quarkus.runtime.annotations.Recorder;
 @Recorder
 public class QuartzRecorder {
 
-    public void initialize(QuartzRuntimeConfig runtimeConfig, BeanContainer container) {
+    public void initialize(QuartzRuntimeConfig runtimeConfig, QuartzBuildTimeConfig buildTimeConfig,
+            BeanContainer container) {
         QuartzSupport support = container.instance(QuartzSupport.class);
-        support.initialize(runtimeConfig);
+        support.initialize(runtimeConfig, buildTimeConfig);
     }
 
 }
@@ -1,5 +1,7 @@
 package io.quarkus.quartz.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -19,4 +21,42 @@ public class QuartzRuntimeConfig {
     @ConfigItem(defaultValue = "5")
     public int threadPriority;
 
+    /**
+     * The frequency at which the scheduler checks in with the other instances of the cluster.
+     * <p>
+     * Only used in cluster mode.
+     */
+    @ConfigItem(defaultValue = "15S")
+    public Duration clusterCheckinInterval;
+
+    /**
+     * The maximum number of triggers that the scheduler acquires, and fires, at once.
+     * <p>
+     * With the `db` store type, a larger value decreases the number of round trips to the database, at the cost of a
+     * less even distribution of the load in cluster mode. It should not exceed the thread count.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int batchTriggerAcquisitionMaxCount;
+
+    /**
+     * The name of the scheduler.
+     * <p>
+     * With the `db` store type, the instances of an application forming a cluster must have the same name, and
+     * distinct applications sharing a database must have different names.
+     */
+    @ConfigItem(defaultValue = "QuarkusQuartzScheduler")
+    public String instanceName;
+
+    /**
+     * Whether the jobs of the scheduled methods which no longer exist are deleted from the store at startup.
+     * <p>
+     * With the `db` store type in cluster mode, the nodes of a cluster going through a rolling update run different
+     * versions of the application on the same store. A starting node then also deletes the jobs of the methods which
+     * only exist in the other version, and they are not scheduled again until a node of that version restarts.
+     * Disable it to keep these jobs during the update, the jobs fired for a method unknown to a node are skipped with a
+     * warning.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean deleteStaleJobs;
+
 }
@@ -2,11 +2,13 @@ package io.quarkus.quartz.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 
 import javax.annotation.PreDestroy;
 import javax.enterprise.event.Observes;
@@ -15,16 +17,22 @@ import javax.inject.Singleton;
 import org.eclipse.microprofile.config.Config;
 import org.jboss.logging.Logger;
 import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
 import org.quartz.Job;
 import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.ScheduleBuilder;
 import org.quartz.SchedulerException;
 import org.quartz.SchedulerFactory;
 import org.quartz.SimpleScheduleBuilder;
+import org.quartz.SimpleTrigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.spi.JobFactory;
 import org.quartz.spi.TriggerFiredBundle;
 
@@ -35,13 +43,16 @@ import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
 
+import io.quarkus.quartz.runtime.QuartzBuildTimeConfig.StoreType;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.runtime.ConcurrentExecutionInvoker;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
+import io.quarkus.scheduler.runtime.SchedulerMetrics;
 import io.quarkus.scheduler.runtime.SchedulerSupport;
 
 @Singleton
@@ -51,24 +62,22 @@ public class QuartzScheduler implements Scheduler {
     private static final String INVOKER_KEY = "invoker";
 
     private final org.quartz.Scheduler scheduler;
-    private final AtomicInteger triggerNameSequence;
     private final Map<String, ScheduledInvoker> invokers;
+    private final SchedulerMetrics metrics = new SchedulerMetrics();
 
     public QuartzScheduler(SchedulerSupport schedulerSupport, QuartzSupport quartzSupport, Config config) {
 
         if (schedulerSupport.getScheduledMethods().isEmpty()) {
-            this.triggerNameSequence = null;
             this.scheduler = null;
             this.invokers = null;
 
         } else {
-            this.triggerNameSequence = new AtomicInteger();
             this.invokers = new HashMap<>();
 
             try {
                 Properties props = new Properties();
-                props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID, "QuarkusQuartzScheduler");
-                props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "QuarkusQuartzScheduler");
+                props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_ID, quartzSupport.getRuntimeConfig().instanceName);
+                props.put(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, quartzSupport.getRuntimeConfig().instanceName);
                 props.put(StdSchedulerFactory.PROP_SCHED_WRAP_JOB_IN_USER_TX, false);
                 props.put(StdSchedulerFactory.PROP_SCHED_SCHEDULER_THREADS_INHERIT_CONTEXT_CLASS_LOADER_OF_INITIALIZING_THREAD,
                         true);
@@ -78,7 +87,14 @@ public class QuartzScheduler implements Scheduler {
                 props.put(StdSchedulerFactory.PROP_THREAD_POOL_PREFIX + ".threadPriority",
                         "" + quartzSupport.getRuntimeConfig().threadPriority);
                 props.put(StdSchedulerFactory.PROP_JOB_STORE_PREFIX + ".misfireThreshold", "60000");
-                props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, "org.quartz.simpl.RAMJobStore");
+                props.put(StdSchedulerFactory.PROP_SCHED_MAX_BATCH_SIZE,
+                        "" + quartzSupport.getRuntimeConfig().batchTriggerAcquisitionMaxCount);
+                if (quartzSupport.getBuildTimeConfig().storeType == StoreType.DB) {
+                    JdbcJobStoreSupport.configure(props, quartzSupport.getBuildTimeConfig(),
+                            quartzSupport.getRuntimeConfig());
+                } else {
+                    props.put(StdSchedulerFactory.PROP_JOB_STORE_CLASS, "org.quartz.simpl.RAMJobStore");
+                }
                 props.put(StdSchedulerFactory.PROP_SCHED_RMI_EXPORT, false);
                 props.put(StdSchedulerFactory.PROP_SCHED_RMI_PROXY, false);
 
@@ -101,16 +117,24 @@ public class QuartzScheduler implements Scheduler {
                 CronType cronType = schedulerSupport.getCronType();
                 CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
                 CronParser parser = new CronParser(def);
+                Set<String> names = new HashSet<>();
 
                 for (ScheduledMethodMetadata method : schedulerSupport.getScheduledMethods()) {
 
-                    invokers.put(method.getInvokerClassName(), schedulerSupport.createInvoker(method.getInvokerClassName()));
+                    // Shared by the schedules of the method
+                    ConcurrentExecutionInvoker invoker = new ConcurrentExecutionInvoker(
+                            schedulerSupport.createInvoker(method.getInvokerClassName()));
+                    metrics.register(method.getMethodDescription(), invoker);
 
+                    int scheduleIndex = 0;
                     for (Scheduled scheduled : method.getSchedules()) {
-                        String name = triggerNameSequence.getAndIncrement() + "_" + method.getInvokerClassName();
+                        // Derived from the method identity so that the jobs stored by a previous run can be matched
+                        String name = method.getInvokerClassName() + "_" + scheduleIndex++;
+                        names.add(name);
+                        // Each schedule has its own concurrent execution policy
+                        invokers.put(name, invoker.withPolicy(scheduled.concurrentExecution()));
                         JobBuilder jobBuilder = JobBuilder.newJob(InvokerJob.class)
-                                .withIdentity(name, Scheduler.class.getName()).usingJobData(INVOKER_KEY,
-                                        method.getInvokerClassName());
+                                .withIdentity(name, Scheduler.class.getName()).usingJobData(INVOKER_KEY, name);
                         ScheduleBuilder<?> scheduleBuilder;
 
                         String cron = scheduled.cron().trim();
@@ -160,17 +184,62 @@ public class QuartzScheduler implements Scheduler {
                             triggerBuilder.startAt(new Date(Instant.now()
                                     .plusMillis(scheduled.delayUnit().toMillis(scheduled.delay())).toEpochMilli()));
                         }
-
-                        scheduler.scheduleJob(jobBuilder.build(), triggerBuilder.build());
-                        LOGGER.debugf("Scheduled business method %s with config %s", method.getMethodDescription(), scheduled);
+                        scheduleJob(jobBuilder.build(), triggerBuilder.build(), method, scheduled);
                     }
                 }
+                if (quartzSupport.getRuntimeConfig().deleteStaleJobs) {
+                    deleteStaleJobs(names);
+                }
             } catch (SchedulerException e) {
                 throw new IllegalStateException("Unable to create Scheduler", e);
             }
         }
     }
 
+    private void scheduleJob(JobDetail job, org.quartz.Trigger trigger, ScheduledMethodMetadata method, Scheduled scheduled)
+            throws SchedulerException {
+        org.quartz.Trigger existingTrigger = scheduler.getTrigger(trigger.getKey());
+        if (existingTrigger == null) {
+            try {
+                scheduler.scheduleJob(job, trigger);
+                LOGGER.debugf("Scheduled business method %s with config %s", method.getMethodDescription(), scheduled);
+                return;
+            } catch (ObjectAlreadyExistsException e) {
+                // Stored in the meantime by another node of the cluster
+                existingTrigger = scheduler.getTrigger(trigger.getKey());
+            }
+        }
+        if (existingTrigger == null) {
+            scheduler.scheduleJob(job, Collections.singleton(trigger), true);
+            LOGGER.debugf("Scheduled business method %s with config %s", method.getMethodDescription(), scheduled);
+        } else if (!hasSameSchedule(existingTrigger, trigger)) {
+            // Already stored by a previous run or by another node of the cluster
+            scheduler.rescheduleJob(trigger.getKey(), trigger);
+            LOGGER.debugf("Rescheduled business method %s with config %s", method.getMethodDescription(), scheduled);
+        }
+    }
+
+    private void deleteStaleJobs(Set<String> names) throws SchedulerException {
+        for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.class.getName()))) {
+            if (!names.contains(jobKey.getName())) {
+                // Stored by a previous version of the application, the scheduled method no longer exists, or by another
+                // version still running in the cluster during a rolling update
+                scheduler.deleteJob(jobKey);
+                LOGGER.debugf("Deleted stale job %s", jobKey);
+            }
+        }
+    }
+
+    private static boolean hasSameSchedule(org.quartz.Trigger existing, org.quartz.Trigger trigger) {
+        if (existing instanceof CronTrigger && trigger instanceof CronTrigger) {
+            return ((CronTrigger) existing).getCronExpression().equals(((CronTrigger) trigger).getCronExpression());
+        }
+        if (existing instanceof SimpleTrigger && trigger instanceof SimpleTrigger) {
+            return ((SimpleTrigger) existing).getRepeatInterval() == ((SimpleTrigger) trigger).getRepeatInterval();
+        }
+        return false;
+    }
+
     @Override
     public void pause() {
         try {
@@ -206,6 +275,7 @@ public class QuartzScheduler implements Scheduler {
 
     @PreDestroy
     void destroy() {
+        metrics.unregister();
         if (scheduler != null) {
             try {
                 scheduler.shutdown();
@@ -238,8 +308,14 @@ public class QuartzScheduler implements Scheduler {
                     return context.getTrigger().getKey().toString();
                 }
             };
-            String invokerClass = context.getJobDetail().getJobDataMap().getString(INVOKER_KEY);
-            invokers.get(invokerClass).invoke(new ScheduledExecution() {
+            String invokerKey = context.getJobDetail().getJobDataMap().getString(INVOKER_KEY);
+            ScheduledInvoker invoker = invokers.get(invokerKey);
+            if (invoker == null) {
+                // Stored by another version of the application, e.g. during a rolling update of the cluster
+                LOGGER.warnf("No scheduled method found for job %s", context.getJobDetail().getKey());
+                return;
+            }
+            invoker.invoke(new ScheduledExecution() {
 
                 @Override
                 public Trigger getTrigger() {
@@ -6,13 +6,19 @@ import javax.inject.Singleton;
 public class QuartzSupport {
 
     private QuartzRuntimeConfig runtimeConfig;
+    private QuartzBuildTimeConfig buildTimeConfig;
 
-    void initialize(QuartzRuntimeConfig runtimeConfig) {
+    void initialize(QuartzRuntimeConfig runtimeConfig, QuartzBuildTimeConfig buildTimeConfig) {
         this.runtimeConfig = runtimeConfig;
+        this.buildTimeConfig = buildTimeConfig;
     }
 
     public QuartzRuntimeConfig getRuntimeConfig() {
         return runtimeConfig;
     }
 
+    public QuartzBuildTimeConfig getBuildTimeConfig() {
+        return buildTimeConfig;
+    }
+
 }
@@ -8,14 +8,23 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.stream.Stream;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.deployment.ApplicationArchive;
@@ -24,10 +33,13 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.NonBlocking;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.vertx.core.deployment.InternalWebVertxBuildItem;
@@ -35,6 +47,7 @@ import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -44,6 +57,17 @@ public class ResteasyStandaloneBuildStep {
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
 
+    private static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
+    private static final DotName[] HTTP_METHODS = {
+            ResteasyDotNames.GET,
+            ResteasyDotNames.HEAD,
+            ResteasyDotNames.DELETE,
+            ResteasyDotNames.OPTIONS,
+            ResteasyDotNames.PATCH,
+            ResteasyDotNames.POST,
+            ResteasyDotNames.PUT,
+    };
+
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
         final String deploymentRootPath;
@@ -69,6 +93,7 @@ public class ResteasyStandaloneBuildStep {
             Capabilities capabilities,
             ResteasyDeploymentBuildItem deployment,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            CombinedIndexBuildItem combinedIndex,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
             BuildProducer<ResteasyStandaloneBuildItem> standalone) throws Exception {
@@ -95,10 +120,13 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            // only try to match requests on the IO thread if some resources can actually run there
+            boolean nonBlocking = !combinedIndex.getIndex().getAnnotations(NON_BLOCKING).isEmpty();
+            List<String> nonBlockingPaths = nonBlocking ? getNonBlockingPaths(combinedIndex.getIndex()) : null;
+            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths, nonBlocking, nonBlockingPaths);
 
         } else if (!knownPaths.isEmpty()) {
-            recorder.staticInit(null, rootPath, knownPaths);
+            recorder.staticInit(null, rootPath, knownPaths, false, null);
         }
 
         if (deployment != null || !knownPaths.isEmpty()) {
@@ -106,6 +134,53 @@ public class ResteasyStandaloneBuildStep {
         }
     }
 
+    /**
+     * Compute the path templates of the resource methods annotated with {@link NonBlocking}, relative to the
+     * deployment root path. A class level annotation covers every path under the class path.
+     *
+     * @param index the index
+     * @return the path templates, or {@code null} if some of the non-blocking methods cannot be located at build time
+     */
+    private List<String> getNonBlockingPaths(IndexView index) {
+        List<String> paths = new ArrayList<>();
+        for (AnnotationInstance annotation : index.getAnnotations(NON_BLOCKING)) {
+            ClassInfo clazz;
+            MethodInfo method = null;
+            if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                clazz = annotation.target().asClass();
+            } else if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                method = annotation.target().asMethod();
+                clazz = method.declaringClass();
+            } else {
+                continue;
+            }
+            AnnotationInstance classPath = clazz.classAnnotation(ResteasyDotNames.PATH);
+            if (classPath == null) {
+                // e.g. the implementation of an annotated interface
+                return null;
+            }
+            String path = classPath.value().asString();
+            AnnotationInstance methodPath = method == null ? null : method.annotation(ResteasyDotNames.PATH);
+            if (method == null || (methodPath == null && !isResourceMethod(method))) {
+                // the annotations may be inherited, so anything under the class path may be non-blocking
+                paths.add(path + "/{path: .*}");
+            } else if (isResourceMethod(method)) {
+                paths.add(methodPath == null ? path : path + "/" + methodPath.value().asString());
+            }
+            // sub-resource locators are always dispatched to the worker pool
+        }
+        return paths;
+    }
+
+    private static boolean isResourceMethod(MethodInfo method) {
+        for (DotName httpMethod : HTTP_METHODS) {
+            if (method.hasAnnotation(httpMethod)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -210,7 +285,8 @@ public class ResteasyStandaloneBuildStep {
             BeanContainerBuildItem beanContainer,
             ResteasyStandaloneBuildItem standalone,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
-            HttpBuildTimeConfig httpConfig) throws Exception {
+            HttpBuildTimeConfig httpConfig,
+            HttpConfiguration httpConfiguration) throws Exception {
 
         if (standalone == null) {
             return;
@@ -221,7 +297,8 @@ public class ResteasyStandaloneBuildStep {
                 || standalone.deploymentRootPath.equals("/");
         if (!isDefaultOrNullDeploymentPath) {
             // We need to register a special handler for non-default deployment path (specified as application path or resteasyConfig.path)
-            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue());
+            Handler<RoutingContext> handler = recorder.vertxRequestHandler(vertx.getVertx(), beanContainer.getValue(),
+                    httpConfiguration);
             // Exact match for resources matched to the root path
             routes.produce(new RouteBuildItem(standalone.deploymentRootPath, handler));
             String matchPath = standalone.deploymentRootPath;
@@ -238,7 +315,7 @@ public class ResteasyStandaloneBuildStep {
         Consumer<Route> ut = recorder.start(vertx.getVertx(),
                 shutdown,
                 beanContainer.getValue(),
-                isVirtual, isDefaultOrNullDeploymentPath);
+                isVirtual, isDefaultOrNullDeploymentPath, httpConfiguration);
 
         defaultRoutes.produce(new DefaultRouteBuildItem(ut));
     }
@@ -0,0 +1,56 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingBodyLimitTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyNonBlockingResource.class)
+                    .addAsResource(new StringAsset("quarkus.http.limits.max-body-size=1K"), "application.properties"));
+
+    @Test
+    public void testBodyWithinLimit() {
+        RestAssured.given().body(body(1024)).post("/non-blocking-body").then().statusCode(200)
+                .body(containsString("eventloop"), containsString("1024"));
+    }
+
+    @Test
+    public void testBodyTooLarge() {
+        RestAssured.given().body(body(1025)).post("/non-blocking-body").then().statusCode(413)
+                .body(not(containsString("eventloop")));
+    }
+
+    private static String body(int length) {
+        StringBuilder body = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            body.append('a');
+        }
+        return body.toString();
+    }
+
+    @NonBlocking
+    @Path("/non-blocking-body")
+    public static class MyNonBlockingResource {
+
+        @POST
+        public String post(String body) {
+            return Thread.currentThread().getName() + " " + body.length();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+
+public class NonBlockingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyResource.class, MyNonBlockingResource.class));
+
+    @TestHTTPResource("/non-blocking-thread")
+    URL nonBlockingUrl;
+
+    @Test
+    public void testNonBlockingMethod() {
+        RestAssured.get("/thread/non-blocking").then().body(containsString("eventloop"));
+    }
+
+    @Test
+    public void testNonBlockingClass() {
+        RestAssured.get("/non-blocking-thread").then().body(containsString("eventloop"));
+        RestAssured.given().body("data").post("/non-blocking-thread").then()
+                .body(containsString("eventloop"), containsString("data"));
+    }
+
+    @Test
+    public void testNonBlockingPathParam() {
+        RestAssured.get("/thread/non-blocking/foo").then().body(containsString("eventloop"), containsString("foo"));
+    }
+
+    @Test
+    public void testNonBlockingLargeChunkedBody() throws Exception {
+        // larger than what is buffered on the IO thread, and of unknown size
+        byte[] body = new byte[3 * 1024 * 1024];
+        Arrays.fill(body, (byte) 'a');
+        HttpURLConnection connection = (HttpURLConnection) nonBlockingUrl.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(8192);
+        connection.setRequestProperty("Content-Type", "text/plain");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        assertEquals(200, connection.getResponseCode());
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                response.write(buffer, 0, read);
+            }
+        }
+        String result = new String(response.toByteArray(), StandardCharsets.UTF_8);
+        // streamed from a worker thread
+        assertFalse(result.startsWith("vert.x-eventloop"), result.substring(0, Math.min(result.length(), 64)));
+        assertEquals(body.length, result.length() - result.indexOf(' ') - 1);
+    }
+
+    @Test
+    public void testBlockingMethod() {
+        RestAssured.get("/thread/blocking").then().body(not(containsString("eventloop")));
+    }
+
+    @Path("/thread")
+    public static class MyResource {
+
+        @GET
+        @NonBlocking
+        @Path("/non-blocking")
+        public String nonBlocking() {
+            return Thread.currentThread().getName();
+        }
+
+        @GET
+        @NonBlocking
+        @Path("/non-blocking/{name}")
+        public String nonBlocking(@PathParam("name") String name) {
+            return Thread.currentThread().getName() + " " + name;
+        }
+
+        @GET
+        @Path("/blocking")
+        public String blocking() {
+            return Thread.currentThread().getName();
+        }
+    }
+
+    @NonBlocking
+    @Path("/non-blocking-thread")
+    public static class MyNonBlockingResource {
+
+        @GET
+        public String get() {
+            return Thread.currentThread().getName();
+        }
+
+        @POST
+        public String post(String body) {
+            return Thread.currentThread().getName() + " " + body;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkus.resteasy.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Context;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.runtime.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
+import io.quarkus.vertx.http.runtime.metrics.RouteMetrics;
+import io.restassured.RestAssured;
+import io.vertx.core.http.HttpServerRequest;
+
+public class ResteasyHttpMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MetricsResource.class)
+                    .addAsResource(new StringAsset("quarkus.http.metrics-enabled=true"), "application.properties"));
+
+    @Test
+    public void testRouteTemplate() {
+        // matched on the IO thread, and the match is reused by the dispatch
+        RestAssured.get("/metrics/non-blocking/1").then().statusCode(200);
+        RestAssured.get("/metrics/non-blocking/2").then().statusCode(200);
+        // matched by RESTEasy on the worker thread
+        RestAssured.get("/metrics/blocking/1").then().statusCode(200);
+
+        assertEquals(2, getRoute("/metrics/non-blocking/{id}").getLatency().getCount());
+        assertEquals(1, getRoute("/metrics/blocking/{id}").getLatency().getCount());
+    }
+
+    @Test
+    public void testInFlightAfterConnectionReset() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            try {
+                RestAssured.get("/metrics/reset");
+            } catch (Exception expected) {
+                // the connection is closed without a response
+            }
+        }
+        HttpMetrics metrics = HttpMetrics.current();
+        assertNotNull(metrics);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.getInFlight() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    private static RouteMetrics getRoute(String template) {
+        HttpMetrics metrics = HttpMetrics.current();
+        assertNotNull(metrics);
+        RouteMetrics route = metrics.getRoutes().stream().filter(r -> r.getRoute().equals(template)).findFirst()
+                .orElse(null);
+        assertNotNull(route, "Routes: " + metrics.getRoutes().stream().map(RouteMetrics::getRoute)
+                .collect(Collectors.toList()));
+        return route;
+    }
+
+    @Path("/metrics")
+    public static class MetricsResource {
+
+        @GET
+        @NonBlocking
+        @Path("/non-blocking/{id}")
+        public String nonBlocking(@PathParam("id") String id) {
+            return id;
+        }
+
+        @GET
+        @Path("/blocking/{id}")
+        public String blocking(@PathParam("id") String id) {
+            return id;
+        }
+
+        @GET
+        @Path("/reset")
+        public String reset(@Context HttpServerRequest request) {
+            // a blocking resource, the RESTEasy output replaces the response handlers
+            request.connection().close();
+            return "closed";
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.resteasy.runtime;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all the resource methods of a class, as non-blocking.
+ * <p>
+ * Non-blocking resource methods are invoked directly on the Vert.x IO thread instead of being dispatched to the worker
+ * pool. They must never block: no blocking IO, no locks that may be held for a long time and no synchronous calls to
+ * remote services. The request body of such a method is fully read before the method is invoked. A body larger than
+ * {@code quarkus.http.limits.max-body-size} is rejected with a 413 status. If no limit is configured, a request whose
+ * body is known to be larger than 1 MiB is dispatched to the worker pool instead, and a body of unknown size larger
+ * than 1 MiB is rejected.
+ * <p>
+ * This only applies when RESTEasy runs on top of Vert.x, not when it is deployed as a Servlet.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface NonBlocking {
+}
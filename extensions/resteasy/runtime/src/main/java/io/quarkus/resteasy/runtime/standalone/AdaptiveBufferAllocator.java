@@ -0,0 +1,180 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * A {@link BufferAllocator} that learns the typical size of the responses of each resource method and sizes the first
+ * buffer of each response accordingly, so that small responses do not waste a large buffer and large ones do not need
+ * many small ones. Responses whose resource method is not known share a single estimate.
+ * <p>
+ * Sizes are rounded up to a power of two between {@link #MIN_BUFFER_SIZE} and {@link #MAX_BUFFER_SIZE}, which are
+ * the size classes the pooled Netty allocator serves without fragmentation.
+ */
+public class AdaptiveBufferAllocator implements BufferAllocator {
+
+    static final int MIN_BUFFER_SIZE = 512;
+    static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Weight of the previous average when a new response size is recorded, out of 8.
+     */
+    private static final int AVERAGE_WEIGHT = 7;
+
+    private final int initialBufferSize;
+    private volatile boolean direct = true;
+    private final SizeEstimate defaultEstimate;
+    // keyed by resource method, of which there is a bounded number
+    private final Map<Object, SizeEstimate> estimates = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AdaptiveBufferAllocator(int initialBufferSize) {
+        this.initialBufferSize = sizeClass(initialBufferSize);
+        this.defaultEstimate = new SizeEstimate(this.initialBufferSize);
+    }
+
+    public void setDirect(boolean direct) {
+        this.direct = direct;
+    }
+
+    @Override
+    public ByteBuf allocateBuffer() {
+        return allocateBuffer(direct, defaultEstimate.bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct) {
+        return allocateBuffer(direct, defaultEstimate.bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(int bufferSize) {
+        return allocateBuffer(direct, bufferSize);
+    }
+
+    @Override
+    public ByteBuf allocateBuffer(boolean direct, int bufferSize) {
+        if (direct) {
+            return PooledByteBufAllocator.DEFAULT.directBuffer(bufferSize);
+        } else {
+            return PooledByteBufAllocator.DEFAULT.heapBuffer(bufferSize);
+        }
+    }
+
+    @Override
+    public ByteBuf allocateFirstBuffer(Object endpoint) {
+        return allocateBuffer(direct, estimate(endpoint).bufferSize);
+    }
+
+    /**
+     * @return the size of the first buffer of the responses whose resource method is not known
+     */
+    @Override
+    public int getBufferSize() {
+        return defaultEstimate.bufferSize;
+    }
+
+    /**
+     * @param endpoint the resource method
+     * @return the size of the first buffer of the responses of the given resource method
+     */
+    public int getBufferSize(Object endpoint) {
+        return estimate(endpoint).bufferSize;
+    }
+
+    @Override
+    public int getMaxBufferSize() {
+        return MAX_BUFFER_SIZE;
+    }
+
+    @Override
+    public void responseWritten(Object endpoint, int firstBufferSize, long size) {
+        if (firstBufferSize > 0) {
+            // compared to the buffer actually used, the estimate may have changed since it was allocated
+            if (size <= firstBufferSize) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+        estimate(endpoint).record(size);
+    }
+
+    /**
+     * @return the number of responses that fit in their first buffer
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of responses that needed more than one buffer
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Forget the learnt response sizes and the hit/miss counts.
+     */
+    public void reset() {
+        defaultEstimate.reset(initialBufferSize);
+        estimates.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private SizeEstimate estimate(Object endpoint) {
+        if (endpoint == null) {
+            return defaultEstimate;
+        }
+        SizeEstimate estimate = estimates.get(endpoint);
+        if (estimate == null) {
+            // start from what is known of the responses in general
+            SizeEstimate created = new SizeEstimate(defaultEstimate.bufferSize);
+            estimate = estimates.putIfAbsent(endpoint, created);
+            if (estimate == null) {
+                estimate = created;
+            }
+        }
+        return estimate;
+    }
+
+    private static final class SizeEstimate {
+
+        private volatile long averageSize;
+        private volatile int bufferSize;
+
+        SizeEstimate(int bufferSize) {
+            reset(bufferSize);
+        }
+
+        void reset(int bufferSize) {
+            this.averageSize = bufferSize;
+            this.bufferSize = bufferSize;
+        }
+
+        void record(long size) {
+            // concurrent updates may lose a sample, which does not matter for an estimate
+            long average = (averageSize * AVERAGE_WEIGHT + size) / (AVERAGE_WEIGHT + 1);
+            averageSize = average;
+            bufferSize = sizeClass(average);
+        }
+    }
+
+    static int sizeClass(long size) {
+        if (size <= MIN_BUFFER_SIZE) {
+            return MIN_BUFFER_SIZE;
+        }
+        if (size >= MAX_BUFFER_SIZE) {
+            return MAX_BUFFER_SIZE;
+        }
+        return Integer.highestOneBit((int) size - 1) << 1;
+    }
+}
@@ -13,4 +13,34 @@ public interface BufferAllocator {
     ByteBuf allocateBuffer(boolean direct, int bufferSize);
 
     int getBufferSize();
+
+    /**
+     * Get the size of the largest buffer that should be requested from this allocator.
+     *
+     * @return the maximum buffer size
+     */
+    default int getMaxBufferSize() {
+        return getBufferSize();
+    }
+
+    /**
+     * Allocate the first buffer of a response.
+     *
+     * @param endpoint identifies the resource method producing the response, {@code null} if it is not known
+     * @return the buffer
+     */
+    default ByteBuf allocateFirstBuffer(Object endpoint) {
+        return allocateBuffer();
+    }
+
+    /**
+     * Notify the allocator that a response has been fully written, so that it can adapt the size of the first buffer
+     * of the next responses of the same endpoint.
+     *
+     * @param endpoint the endpoint passed to {@link #allocateFirstBuffer(Object)}, {@code null} if it is not known
+     * @param firstBufferSize the capacity of the first buffer of the response, {@code 0} if none was allocated
+     * @param size the total size of the response body
+     */
+    default void responseWritten(Object endpoint, int firstBufferSize, long size) {
+    }
 }
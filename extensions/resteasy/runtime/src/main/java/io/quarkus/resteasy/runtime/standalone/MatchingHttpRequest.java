@@ -0,0 +1,116 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A minimal request that only carries what RESTEasy needs to match a resource method: the URI, the method and the
+ * headers. It is used on the IO thread to find out whether a request targets a non-blocking resource method, and is
+ * never dispatched. Like {@link VertxHttpRequest}, it keeps its attributes in the routing context, so that the state
+ * recorded by the matching, along with the URI info, can be reused by the request that is eventually dispatched.
+ */
+final class MatchingHttpRequest extends BaseHttpRequest {
+
+    private final RoutingContext routingContext;
+    private final ResteasyHttpHeaders httpHeaders;
+    private String httpMethod;
+
+    MatchingHttpRequest(RoutingContext routingContext, ResteasyUriInfo uri, ResteasyHttpHeaders httpHeaders,
+            String httpMethod) {
+        super(uri);
+        this.routingContext = routingContext;
+        this.httpHeaders = httpHeaders;
+        this.httpMethod = httpMethod;
+    }
+
+    @Override
+    public HttpHeaders getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMutableHeaders() {
+        return httpHeaders.getMutableHeaders();
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public void setHttpMethod(String method) {
+        this.httpMethod = method;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setInputStream(InputStream stream) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return routingContext.get(attribute);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        routingContext.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        routingContext.remove(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        Map<String, Object> attributes = routingContext.data();
+        if (attributes == null) {
+            return Collections.emptyEnumeration();
+        }
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public ResteasyAsynchronousContext getAsyncContext() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void forward(String path) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean wasForwarded() {
+        return false;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.Path;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Sets the {@link HttpMetrics#ROUTE_TEMPLATE} of the requests, so that they are measured per resource method. The
+ * templates are computed once per resource method of the deployment.
+ */
+final class PathTemplates {
+
+    // the resource methods whose path template cannot be found
+    private static final String NO_TEMPLATE = "";
+
+    private final Map<ResourceMethodInvoker, String> templates = new ConcurrentHashMap<>();
+
+    void setRouteTemplate(RoutingContext routingContext, ResourceMethodInvoker invoker) {
+        if (HttpMetrics.current() == null) {
+            return;
+        }
+        String template = templates.computeIfAbsent(invoker, i -> {
+            String t = getPathTemplate(i);
+            return t == null ? NO_TEMPLATE : t;
+        });
+        if (!template.isEmpty()) {
+            routingContext.put(HttpMetrics.ROUTE_TEMPLATE, template);
+        }
+    }
+
+    /**
+     * @return the path template of the given resource method, relative to the JAX-RS application, or {@code null} if
+     *         the resource class path cannot be found
+     */
+    static String getPathTemplate(ResourceMethodInvoker invoker) {
+        Path classPath = findPath(invoker.getResourceClass());
+        if (classPath == null) {
+            return null;
+        }
+        String template = classPath.value().startsWith("/") ? classPath.value() : "/" + classPath.value();
+        Method method = invoker.getMethod();
+        Path methodPath = method.getAnnotation(Path.class);
+        if (methodPath == null) {
+            for (Class<?> i : method.getDeclaringClass().getInterfaces()) {
+                try {
+                    methodPath = i.getMethod(method.getName(), method.getParameterTypes()).getAnnotation(Path.class);
+                } catch (NoSuchMethodException e) {
+                    continue;
+                }
+                if (methodPath != null) {
+                    break;
+                }
+            }
+        }
+        if (methodPath != null) {
+            String path = methodPath.value();
+            if (template.endsWith("/") && path.startsWith("/")) {
+                template += path.substring(1);
+            } else if (template.endsWith("/") || path.startsWith("/")) {
+                template += path;
+            } else {
+                template += "/" + path;
+            }
+        }
+        return template;
+    }
+
+    private static Path findPath(Class<?> resourceClass) {
+        Path path = resourceClass.getAnnotation(Path.class);
+        if (path == null) {
+            for (Class<?> i : resourceClass.getInterfaces()) {
+                path = i.getAnnotation(Path.class);
+                if (path != null) {
+                    break;
+                }
+            }
+        }
+        return path;
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A set of JAX-RS path templates, matched segment by segment in time proportional to the length of the path, without
+ * regular expressions.
+ * <p>
+ * A plain template parameter such as {@code {id}} matches any single segment. Templates with a regular expression,
+ * such as {@code {path: .*}}, can span several segments, so everything under their parent is considered a match.
+ * Matching is thus conservative: a path that matches may still not be accepted by RESTEasy, but a path accepted by
+ * RESTEasy for one of the templates always matches.
+ * <p>
+ * This is only a pre-filter, it does not select a resource method nor extract path parameters. It lets
+ * {@link VertxRequestHandler} send the requests that cannot reach a {@link io.quarkus.resteasy.runtime.NonBlocking}
+ * resource method to the worker pool without matching them on the IO thread. The requests that pass it are matched
+ * by RESTEasy once, on the IO thread, and that match is reused when they are dispatched.
+ */
+public final class PathTrie {
+
+    private final Node root = new Node();
+
+    public PathTrie(Iterable<String> templates) {
+        for (String template : templates) {
+            add(template);
+        }
+    }
+
+    private void add(String template) {
+        Node node = root;
+        for (String segment : template.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            int open = segment.indexOf('{');
+            if (open == -1) {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            } else if (open == 0 && segment.indexOf('}') == segment.length() - 1 && segment.indexOf(':') == -1) {
+                if (node.parameter == null) {
+                    node.parameter = new Node();
+                }
+                node = node.parameter;
+            } else {
+                // a regular expression, or a segment mixing literals and parameters
+                node.any = true;
+                return;
+            }
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * @param path the path, relative to the JAX-RS root path
+     * @return {@code true} if the path may match one of the templates
+     */
+    public boolean matches(String path) {
+        return matches(root, path, 0);
+    }
+
+    private static boolean matches(Node node, String path, int start) {
+        if (node.any) {
+            return true;
+        }
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        if (start == path.length()) {
+            return node.terminal;
+        }
+        int end = path.indexOf('/', start);
+        if (end == -1) {
+            end = path.length();
+        }
+        if (!node.literals.isEmpty()) {
+            // matrix parameters are not part of the segment
+            int matrix = path.indexOf(';', start);
+            Node literal = node.literals.get(path.substring(start, matrix == -1 || matrix > end ? end : matrix));
+            if (literal != null && matches(literal, path, end)) {
+                return true;
+            }
+        }
+        return node.parameter != null && matches(node.parameter, path, end);
+    }
+
+    private static final class Node {
+        final Map<String, Node> literals = new HashMap<>();
+        Node parameter;
+        boolean terminal;
+        boolean any;
+    }
+}
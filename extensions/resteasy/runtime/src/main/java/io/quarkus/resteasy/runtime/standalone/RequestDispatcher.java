@@ -9,6 +9,7 @@ import org.jboss.resteasy.core.ThreadLocalResteasyProviderFactory;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 
 import io.vertx.core.Context;
@@ -55,6 +56,18 @@ public class RequestDispatcher {
             HttpServerRequest req,
             HttpServerResponse resp,
             HttpRequest vertxReq, HttpResponse vertxResp, boolean handleNotFound) throws IOException {
+        service(context, req, resp, vertxReq, vertxResp, handleNotFound, null);
+    }
+
+    /**
+     * @param invoker the resource invoker the request was already matched to, or {@code null} to match it; the request
+     *        must have been matched with the same URI info, and the deployment must not have pre-matching filters
+     */
+    public void service(Context context,
+            HttpServerRequest req,
+            HttpServerResponse resp,
+            HttpRequest vertxReq, HttpResponse vertxResp, boolean handleNotFound, ResourceInvoker invoker)
+            throws IOException {
 
         ClassLoader old = Thread.currentThread().getContextClassLoader();
         try {
@@ -69,7 +82,10 @@ public class RequestDispatcher {
                 ResteasyContext.pushContext(HttpServerRequest.class, req);
                 ResteasyContext.pushContext(HttpServerResponse.class, resp);
                 ResteasyContext.pushContext(Vertx.class, context.owner());
-                if (handleNotFound) {
+                if (invoker != null) {
+                    dispatcher.pushContextObjects(vertxReq, vertxResp);
+                    dispatcher.invoke(vertxReq, vertxResp, invoker);
+                } else if (handleNotFound) {
                     dispatcher.invoke(vertxReq, vertxResp);
                 } else {
                     dispatcher.invokePropagateNotFound(vertxReq, vertxResp);
@@ -7,15 +7,16 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.ThreadLocalHandler;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Route;
@@ -28,6 +29,8 @@ import io.vertx.ext.web.handler.StaticHandler;
 @Recorder
 public class ResteasyStandaloneRecorder {
 
+    private static final Logger log = Logger.getLogger(ResteasyStandaloneRecorder.class);
+
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
     /**
@@ -35,39 +38,10 @@ public class ResteasyStandaloneRecorder {
      */
     protected static final int BUFFER_SIZE = 8 * 1024;
 
-    private static boolean useDirect = true;
-
-    //TODO: clean this up
-    private static BufferAllocator ALLOCATOR = new BufferAllocator() {
-        @Override
-        public ByteBuf allocateBuffer() {
-            return allocateBuffer(useDirect);
-        }
-
-        @Override
-        public ByteBuf allocateBuffer(boolean direct) {
-            return allocateBuffer(direct, BUFFER_SIZE);
-        }
+    private static final AdaptiveBufferAllocator ALLOCATOR = new AdaptiveBufferAllocator(BUFFER_SIZE);
 
-        @Override
-        public ByteBuf allocateBuffer(int bufferSize) {
-            return allocateBuffer(useDirect, bufferSize);
-        }
-
-        @Override
-        public ByteBuf allocateBuffer(boolean direct, int bufferSize) {
-            if (direct) {
-                return PooledByteBufAllocator.DEFAULT.directBuffer(bufferSize);
-            } else {
-                return PooledByteBufAllocator.DEFAULT.heapBuffer(bufferSize);
-            }
-        }
-
-        @Override
-        public int getBufferSize() {
-            return BUFFER_SIZE;
-        }
-    };
+    private static final String BUFFER_HITS = "resteasy.response.buffer.hits";
+    private static final String BUFFER_MISSES = "resteasy.response.buffer.misses";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -78,8 +52,13 @@ public class ResteasyStandaloneRecorder {
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
     private static String contextPath;
+    private static boolean nonBlockingResources;
+    private static PathTrie nonBlockingPaths;
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, boolean nonBlocking,
+            List<String> nonBlockingTemplates) {
+        nonBlockingResources = nonBlocking;
+        nonBlockingPaths = nonBlockingTemplates == null ? null : new PathTrie(nonBlockingTemplates);
         if (dep != null) {
             deployment = dep;
             deployment.start();
@@ -91,7 +70,8 @@ public class ResteasyStandaloneRecorder {
     public Consumer<Route> start(RuntimeValue<Vertx> vertx,
             ShutdownContext shutdown,
             BeanContainer beanContainer,
-            boolean isVirtual, boolean isDefaultResourcesPath) {
+            boolean isVirtual, boolean isDefaultResourcesPath,
+            HttpConfiguration httpConfiguration) {
 
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -99,9 +79,18 @@ public class ResteasyStandaloneRecorder {
                 if (deployment != null) {
                     deployment.stop();
                 }
+                log.debugf("Response buffers sized right for %d responses, too small for %d responses",
+                        ALLOCATOR.getHits(), ALLOCATOR.getMisses());
+                HttpMetrics.removeCounter(BUFFER_HITS);
+                HttpMetrics.removeCounter(BUFFER_MISSES);
+                ALLOCATOR.reset();
             }
         });
-        useDirect = !isVirtual;
+        HttpMetrics.registerCounter(BUFFER_HITS, "Displays the number of RESTEasy responses that fit in their first buffer.",
+                ALLOCATOR::getHits);
+        HttpMetrics.registerCounter(BUFFER_MISSES,
+                "Displays the number of RESTEasy responses that needed more than one buffer.", ALLOCATOR::getMisses);
+        ALLOCATOR.setDirect(!isVirtual);
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
         if (hotDeploymentResourcePaths != null && !hotDeploymentResourcePaths.isEmpty()) {
@@ -147,7 +136,7 @@ public class ResteasyStandaloneRecorder {
         }
 
         if (deployment != null && isDefaultResourcesPath) {
-            handlers.add(vertxRequestHandler(vertx, beanContainer));
+            handlers.add(vertxRequestHandler(vertx, beanContainer, httpConfiguration));
         }
         return new Consumer<Route>() {
 
@@ -161,9 +150,13 @@ public class ResteasyStandaloneRecorder {
     }
 
     public Handler<RoutingContext> vertxRequestHandler(RuntimeValue<Vertx> vertx,
-            BeanContainer beanContainer) {
+            BeanContainer beanContainer, HttpConfiguration httpConfiguration) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR);
+            long maxBodySize = httpConfiguration.limits.maxBodySize.isPresent()
+                    ? httpConfiguration.limits.maxBodySize.get().asLongValue()
+                    : -1;
+            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR,
+                    nonBlockingResources, nonBlockingPaths, maxBodySize);
         }
         return null;
     }
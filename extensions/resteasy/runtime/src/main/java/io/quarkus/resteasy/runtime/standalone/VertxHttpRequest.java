@@ -18,6 +18,7 @@ import javax.ws.rs.core.Response;
 
 import org.jboss.resteasy.core.AbstractAsynchronousResponse;
 import org.jboss.resteasy.core.AbstractExecutionContext;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
 import org.jboss.resteasy.core.SynchronousDispatcher;
 import org.jboss.resteasy.plugins.server.BaseHttpRequest;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
@@ -51,6 +52,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
     private final Context context;
     private final ManagedContext requestContext;
     private final ManagedContext.ContextState requestContextState;
+    private final PathTemplates pathTemplates;
 
     public VertxHttpRequest(Context context,
             RoutingContext routingContext,
@@ -59,7 +61,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
             String httpMethod,
             LazyHostSupplier remoteHost,
             SynchronousDispatcher dispatcher,
-            VertxHttpResponse response, ManagedContext requestContext) {
+            VertxHttpResponse response, ManagedContext requestContext, PathTemplates pathTemplates) {
         super(uri);
         this.context = context;
         this.response = response;
@@ -70,6 +72,7 @@ public final class VertxHttpRequest extends BaseHttpRequest {
         this.requestContext = requestContext;
         this.requestContextState = requestContext.getState();
         this.routingContext = routingContext;
+        this.pathTemplates = pathTemplates;
     }
 
     @Override
@@ -118,6 +121,10 @@ public final class VertxHttpRequest extends BaseHttpRequest {
     @Override
     public void setAttribute(String name, Object value) {
         routingContext.put(name, value);
+        if (value instanceof ResourceMethodInvoker) {
+            // set by RESTEasy before invoking the resource method, so that requests are measured per resource
+            pathTemplates.setRouteTemplate(routingContext, (ResourceMethodInvoker) value);
+        }
     }
 
     @Override
@@ -18,11 +18,13 @@ import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
 
 public class VertxHttpResponse implements HttpResponse {
     private int status = 200;
     private OutputStream os;
     private MultivaluedMap<String, Object> outputHeaders;
+    final RoutingContext routingContext;
     final HttpServerRequest request;
     final HttpServerResponse response;
     private boolean committed;
@@ -31,13 +33,14 @@ public class VertxHttpResponse implements HttpResponse {
     private final HttpMethod method;
     private final VertxOutput output;
 
-    public VertxHttpResponse(HttpServerRequest request, ResteasyProviderFactory providerFactory,
+    public VertxHttpResponse(RoutingContext routingContext, ResteasyProviderFactory providerFactory,
             final HttpMethod method, BufferAllocator allocator, VertxOutput output) {
         outputHeaders = new MultivaluedMapImpl<String, Object>();
         this.method = method;
+        this.routingContext = routingContext;
+        this.request = routingContext.request();
         os = (method == null || !method.equals(HttpMethod.HEAD)) ? new VertxOutputStream(this, allocator)
                 : null;
-        this.request = request;
         this.response = request.response();
         this.providerFactory = providerFactory;
         this.output = output;
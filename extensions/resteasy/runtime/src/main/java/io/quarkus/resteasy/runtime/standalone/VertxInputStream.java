@@ -27,12 +27,20 @@ public class VertxInputStream extends InputStream {
 
     @Override
     public int read() throws IOException {
-        byte[] b = new byte[1];
-        int read = read(b);
-        if (read == -1) {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        readIntoBuffer();
+        if (finished) {
             return -1;
         }
-        return b[0] & 0xff;
+        ByteBuf buffer = pooled;
+        int b = buffer.readByte() & 0xff;
+        if (!buffer.isReadable()) {
+            pooled.release();
+            pooled = null;
+        }
+        return b;
     }
 
     @Override
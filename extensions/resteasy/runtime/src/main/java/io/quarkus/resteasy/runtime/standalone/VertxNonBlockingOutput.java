@@ -0,0 +1,39 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Output used by non-blocking resource methods, which run on the IO thread and thus cannot wait for the write queue
+ * to drain. Writes are handed to Vert.x straight away and queued by the connection if needed.
+ */
+public class VertxNonBlockingOutput implements VertxOutput {
+
+    protected final HttpServerRequest request;
+
+    public VertxNonBlockingOutput(HttpServerRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (last && data == null) {
+            request.response().end();
+            return;
+        }
+        try {
+            if (last) {
+                request.response().end(new VertxBufferImpl(data));
+            } else {
+                request.response().write(new VertxBufferImpl(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
+        }
+    }
+}
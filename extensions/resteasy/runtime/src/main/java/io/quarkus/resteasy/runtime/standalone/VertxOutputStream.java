@@ -5,13 +5,27 @@ import java.io.OutputStream;
 
 import javax.ws.rs.core.HttpHeaders;
 
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 
 public class VertxOutputStream extends OutputStream {
 
+    /**
+     * Full buffers are aggregated and handed to Vert.x as a single composite buffer once they reach this size, so that
+     * most response bodies are written in one go, with a known length, instead of as a series of chunks.
+     */
+    static final int MAX_AGGREGATE_SIZE = 128 * 1024;
+    private static final int MAX_COMPONENTS = 16;
+
     private final VertxHttpResponse response;
     private final BufferAllocator allocator;
     private ByteBuf pooledBuffer;
+    private CompositeByteBuf aggregate;
+    private Object endpoint;
+    private int firstBufferSize;
+    private int lastBufferSize;
     private long written;
     private final long contentLength;
 
@@ -32,7 +46,23 @@ public class VertxOutputStream extends OutputStream {
      * {@inheritDoc}
      */
     public void write(final int b) throws IOException {
-        write(new byte[] { (byte) b }, 0, 1);
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        // writers such as the JSON providers often write single bytes, avoid allocating an array for each one
+        try {
+            if (pooledBuffer == null) {
+                pooledBuffer = nextBuffer();
+            }
+            pooledBuffer.writeByte(b);
+            if (!pooledBuffer.isWritable()) {
+                bufferFull();
+            }
+        } catch (Exception e) {
+            releaseBuffers();
+            throw new IOException(e);
+        }
+        updateWritten(1);
     }
 
     /**
@@ -55,26 +85,21 @@ public class VertxOutputStream extends OutputStream {
 
         int rem = len;
         int idx = off;
-        ByteBuf buffer = pooledBuffer;
         try {
-            if (buffer == null) {
-                pooledBuffer = buffer = allocator.allocateBuffer();
-            }
             while (rem > 0) {
-                int toWrite = Math.min(rem, buffer.writableBytes());
-                buffer.writeBytes(b, idx, toWrite);
+                if (pooledBuffer == null) {
+                    pooledBuffer = nextBuffer();
+                }
+                int toWrite = Math.min(rem, pooledBuffer.writableBytes());
+                pooledBuffer.writeBytes(b, idx, toWrite);
                 rem -= toWrite;
                 idx += toWrite;
-                if (!buffer.isWritable()) {
-                    ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = allocator.allocateBuffer();
-                    response.writeBlocking(tmpBuf, false);
+                if (!pooledBuffer.isWritable()) {
+                    bufferFull();
                 }
             }
         } catch (Exception e) {
-            if (buffer != null && buffer.refCnt() > 0) {
-                buffer.release();
-            }
+            releaseBuffers();
             throw new IOException(e);
         }
         updateWritten(len);
@@ -95,15 +120,14 @@ public class VertxOutputStream extends OutputStream {
         if (closed) {
             throw new IOException("Stream is closed");
         }
+        ByteBuf data = drain();
         try {
-            if (pooledBuffer != null) {
-                response.writeBlocking(pooledBuffer, false);
-                pooledBuffer = null;
+            if (data != null) {
+                response.writeBlocking(data, false);
             }
         } catch (Exception e) {
-            if (pooledBuffer != null) {
-                pooledBuffer.release();
-                pooledBuffer = null;
+            if (data.refCnt() > 0) {
+                data.release();
             }
             throw new IOException(e);
         }
@@ -116,13 +140,82 @@ public class VertxOutputStream extends OutputStream {
         if (closed)
             return;
         try {
-            response.writeBlocking(pooledBuffer, true);
+            response.writeBlocking(drain(), true);
         } catch (Exception e) {
             throw new IOException(e);
         } finally {
             closed = true;
-            pooledBuffer = null;
+            allocator.responseWritten(endpoint, firstBufferSize, written);
+        }
+    }
+
+    /**
+     * The first buffer of a response has the size the allocator expects for a whole response of the resource method.
+     * It is allocated on the first write, once the request has been matched. If the response turns out to be larger,
+     * each following buffer is twice as large as the previous one, up to the allocator maximum.
+     */
+    private ByteBuf nextBuffer() {
+        ByteBuf buffer;
+        if (lastBufferSize == 0) {
+            // set by RESTEasy before the resource method is invoked
+            Object invoker = response.routingContext.get(ResourceMethodInvoker.class.getName());
+            endpoint = invoker instanceof ResourceMethodInvoker ? ((ResourceMethodInvoker) invoker).getMethod() : null;
+            buffer = allocator.allocateFirstBuffer(endpoint);
+            firstBufferSize = buffer.capacity();
+        } else {
+            buffer = allocator.allocateBuffer(Math.max(lastBufferSize, Math.min(lastBufferSize * 2,
+                    allocator.getMaxBufferSize())));
+        }
+        lastBufferSize = buffer.capacity();
+        return buffer;
+    }
+
+    private void bufferFull() throws IOException {
+        ByteBuf buffer = pooledBuffer;
+        pooledBuffer = null;
+        if (aggregate == null) {
+            aggregate = buffer.alloc().compositeBuffer(MAX_COMPONENTS);
+        }
+        aggregate.addComponent(true, buffer);
+        if (aggregate.readableBytes() >= MAX_AGGREGATE_SIZE) {
+            ByteBuf data = aggregate;
+            aggregate = null;
+            response.writeBlocking(data, false);
+        }
+    }
+
+    /**
+     * Take all the data written so far and not handed to the response yet.
+     *
+     * @return the data, or {@code null} if there is none
+     */
+    private ByteBuf drain() {
+        ByteBuf buffer = pooledBuffer;
+        pooledBuffer = null;
+        if (aggregate == null) {
+            return buffer;
+        }
+        CompositeByteBuf data = aggregate;
+        aggregate = null;
+        if (buffer != null) {
+            if (buffer.isReadable()) {
+                data.addComponent(true, buffer);
+            } else {
+                buffer.release();
+            }
+        }
+        return data;
+    }
+
+    private void releaseBuffers() {
+        if (pooledBuffer != null && pooledBuffer.refCnt() > 0) {
+            pooledBuffer.release();
+        }
+        pooledBuffer = null;
+        if (aggregate != null && aggregate.refCnt() > 0) {
+            aggregate.release();
         }
+        aggregate = null;
     }
 
 }
@@ -1,30 +1,40 @@
 package io.quarkus.resteasy.runtime.standalone;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Map;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.core.SecurityContext;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.SynchronousDispatcher;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
+import org.jboss.resteasy.spi.ResourceInvoker;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.resteasy.runtime.NonBlocking;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -33,6 +43,12 @@ import io.vertx.ext.web.RoutingContext;
 public class VertxRequestHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
 
+    /**
+     * The maximum size of the body of a non-blocking request buffered on the IO thread, when no maximum body size is
+     * configured. A larger body is streamed from a worker thread instead.
+     */
+    static final long DEFAULT_MAX_NON_BLOCKING_BODY_SIZE = 1024 * 1024;
+
     protected final Vertx vertx;
     protected final RequestDispatcher dispatcher;
     protected final String rootPath;
@@ -40,12 +56,35 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final BeanContainer beanContainer;
     protected final CurrentIdentityAssociation association;
     protected final CurrentVertxRequest currentVertxRequest;
+    protected final boolean nonBlockingResources;
+    protected final PathTrie nonBlockingPaths;
+    protected final long maxBodySize;
+    protected final PathTemplates pathTemplates = new PathTemplates();
+    protected final boolean reuseMatches;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, false, null, -1);
+    }
+
+    /**
+     * @param nonBlockingResources whether the deployment contains resource methods annotated with {@link NonBlocking};
+     *        if not, every request is dispatched to the worker pool without trying to match it on the IO thread
+     * @param nonBlockingPaths the paths of the non-blocking resource methods, used to rule out most requests for
+     *        blocking resources without matching them against the deployment; {@code null} if they are not known
+     * @param maxBodySize the maximum size of a request body, {@code -1} if there is no limit
+     */
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator,
+            boolean nonBlockingResources,
+            PathTrie nonBlockingPaths,
+            long maxBodySize) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -55,22 +94,59 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
+        this.nonBlockingResources = nonBlockingResources;
+        this.nonBlockingPaths = nonBlockingPaths;
+        this.maxBodySize = maxBodySize;
+        // pre-matching filters, including the ones registered at runtime, and the media type and language mappings
+        // may rewrite the request before it is matched; if so, a request matched on the IO thread is matched again
+        // when dispatched
+        ContainerRequestFilter[] preMatchFilters = deployment.getProviderFactory().getContainerRequestFilterRegistry()
+                .preMatch();
+        this.reuseMatches = (preMatchFilters == null || preMatchFilters.length == 0)
+                && isEmpty(deployment.getMediaTypeMappings()) && isEmpty(deployment.getLanguageExtensions());
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
     }
 
     @Override
     public void handle(RoutingContext request) {
+        Match match = null;
+        if (nonBlockingResources && mayBeNonBlocking(request)) {
+            match = match(request);
+            if (match != null && match.isNonBlocking()) {
+                dispatchNonBlocking(request, match);
+                return;
+            }
+        }
+        dispatchBlocking(request, match);
+    }
+
+    private void dispatchBlocking(RoutingContext request, Match match) {
+        dispatchBlocking(request, match, null);
+    }
+
+    /**
+     * @param bufferedBody the beginning of the body, already read on the IO thread, or {@code null}
+     */
+    private void dispatchBlocking(RoutingContext request, Match match, Buffer bufferedBody) {
         // have to create input stream here.  Cannot execute in another thread
         // otherwise request handlers may not get set up before request ends
-        VertxInputStream is;
+        InputStream is;
         try {
             is = new VertxInputStream(request.request());
         } catch (IOException e) {
             request.fail(e);
             return;
         }
+        if (bufferedBody != null) {
+            is = new SequenceInputStream(new ByteArrayInputStream(bufferedBody.getBytes()), is);
+        }
+        InputStream body = is;
 
         vertx.executeBlocking(event -> {
-            dispatch(request, is, new VertxBlockingOutput(request.request()));
+            dispatch(request, body, new VertxBlockingOutput(request.request()), match);
         }, false, event -> {
             if (event.failed()) {
                 request.fail(event.cause());
@@ -78,7 +154,118 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         });
     }
 
-    private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
+    /**
+     * Rule out the requests that cannot target a non-blocking resource method, without matching them. This is a
+     * conservative pre-filter, the actual matching is still done by RESTEasy.
+     */
+    private boolean mayBeNonBlocking(RoutingContext request) {
+        if (nonBlockingPaths == null) {
+            return true;
+        }
+        String path = request.normalisedPath();
+        if (!path.startsWith(rootPath)) {
+            return false;
+        }
+        return nonBlockingPaths.matches(path.substring(rootPath.length()));
+    }
+
+    /**
+     * Match the request against the deployment to find out whether it targets a non-blocking resource method. Any
+     * request that cannot be matched here (not found, sub-resource locators, ...) goes through the worker pool, so that
+     * errors are reported the usual way.
+     *
+     * @return the match, or {@code null} if the request does not target a resource method
+     */
+    private Match match(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
+        ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
+        try {
+            ResourceInvoker invoker = dispatcher.getDispatcher().getRegistry()
+                    .getResourceInvoker(new MatchingHttpRequest(routingContext, uriInfo, headers, request.rawMethod()));
+            if (invoker instanceof ResourceMethodInvoker) {
+                return new Match(uriInfo, headers, (ResourceMethodInvoker) invoker);
+            }
+        } catch (RuntimeException e) {
+            log.tracef(e, "Unable to match %s on the IO thread", request.uri());
+        }
+        return null;
+    }
+
+    private void dispatchNonBlocking(RoutingContext request, Match match) {
+        // the resource method runs on the IO thread, so the body cannot be read in a blocking way
+        HttpServerRequest httpRequest = request.request();
+        Buffer body = request.getBody();
+        if (body != null || httpRequest.isEnded()) {
+            dispatchNonBlocking(request, match, body);
+            return;
+        }
+        long contentLength = getContentLength(httpRequest);
+        if (maxBodySize >= 0 && contentLength > maxBodySize) {
+            rejectBody(request);
+            return;
+        }
+        long limit = maxBodySize >= 0 ? maxBodySize : DEFAULT_MAX_NON_BLOCKING_BODY_SIZE;
+        if (contentLength > limit) {
+            // too large to be buffered on the IO thread, the body is streamed from a worker thread instead
+            dispatchBlocking(request, match);
+            return;
+        }
+        Buffer buffer = Buffer.buffer(contentLength > 0 ? (int) contentLength : 0);
+        httpRequest.handler(chunk -> {
+            if (request.response().ended()) {
+                // rejected, the rest of the body is discarded
+                return;
+            }
+            if (buffer.length() + chunk.length() <= limit) {
+                buffer.appendBuffer(chunk);
+            } else if (maxBodySize >= 0) {
+                rejectBody(request);
+            } else {
+                // too large to be buffered on the IO thread, the rest of the body is streamed from a worker thread,
+                // which replaces these handlers
+                buffer.appendBuffer(chunk);
+                dispatchBlocking(request, match, buffer);
+            }
+        });
+        httpRequest.endHandler(v -> {
+            if (!request.response().ended()) {
+                dispatchNonBlocking(request, match, buffer);
+            }
+        });
+        httpRequest.resume();
+    }
+
+    /**
+     * @return the length of the body of the given request, {@code 0} if it has no body, {@code -1} if it is unknown
+     */
+    private static long getContentLength(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        // an HTTP/1.x request without a length has no body, unless it is chunked
+        if (request.version() != HttpVersion.HTTP_2 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) == null) {
+            return 0;
+        }
+        return -1;
+    }
+
+    private void rejectBody(RoutingContext request) {
+        log.debugf("Body of %s exceeds the maximum body size", request.request().uri());
+        request.response().setStatusCode(413).end();
+    }
+
+    private void dispatchNonBlocking(RoutingContext request, Match match, Buffer body) {
+        InputStream is = new ByteArrayInputStream(body == null ? new byte[0] : body.getBytes());
+        dispatch(request, is, new VertxNonBlockingOutput(request.request()), match);
+    }
+
+    private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output, Match match) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
         QuarkusHttpUser user = (QuarkusHttpUser) routingContext.user();
@@ -89,10 +276,12 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         try {
             Context ctx = vertx.getOrCreateContext();
             HttpServerRequest request = routingContext.request();
-            ResteasyUriInfo uriInfo = VertxUtil.extractUriInfo(request, rootPath);
-            ResteasyHttpHeaders headers = VertxUtil.extractHttpHeaders(request);
+            // a request matched on the IO thread is not matched again, its URI info holds the path parameters
+            boolean matched = match != null && reuseMatches;
+            ResteasyUriInfo uriInfo = matched ? match.uriInfo : VertxUtil.extractUriInfo(request, rootPath);
+            ResteasyHttpHeaders headers = matched ? match.headers : VertxUtil.extractHttpHeaders(request);
             HttpServerResponse response = request.response();
-            VertxHttpResponse vertxResponse = new VertxHttpResponse(request, dispatcher.getProviderFactory(),
+            VertxHttpResponse vertxResponse = new VertxHttpResponse(routingContext, dispatcher.getProviderFactory(),
                     request.method(), allocator, output);
 
             // using a supplier to make the remote Address resolution lazy: often it's not needed and it's not very cheap to create.
@@ -100,12 +289,17 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
             VertxHttpRequest vertxRequest = new VertxHttpRequest(ctx, routingContext, headers, uriInfo, request.rawMethod(),
                     hostSupplier,
-                    dispatcher.getDispatcher(), vertxResponse, requestContext);
+                    dispatcher.getDispatcher(), vertxResponse, requestContext, pathTemplates);
             vertxRequest.setInputStream(is);
             try {
                 ResteasyContext.pushContext(SecurityContext.class, new QuarkusResteasySecurityContext(request));
                 ResteasyContext.pushContext(RoutingContext.class, routingContext);
-                dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
+                if (matched) {
+                    // RESTEasy does not set the invoker attribute when it is given the invoker
+                    pathTemplates.setRouteTemplate(routingContext, match.invoker);
+                }
+                dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true,
+                        matched ? match.invoker : null);
             } catch (Failure e1) {
                 vertxResponse.setStatus(e1.getErrorCode());
                 if (e1.isLoggable()) {
@@ -143,4 +337,25 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             }
         }
     }
+
+    /**
+     * A request matched to a resource method on the IO thread.
+     */
+    private static final class Match {
+
+        final ResteasyUriInfo uriInfo;
+        final ResteasyHttpHeaders headers;
+        final ResourceMethodInvoker invoker;
+
+        Match(ResteasyUriInfo uriInfo, ResteasyHttpHeaders headers, ResourceMethodInvoker invoker) {
+            this.uriInfo = uriInfo;
+            this.headers = headers;
+            this.invoker = invoker;
+        }
+
+        boolean isNonBlocking() {
+            return invoker.getMethod().isAnnotationPresent(NonBlocking.class)
+                    || invoker.getResourceClass().isAnnotationPresent(NonBlocking.class);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.runtime.standalone;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,10 +65,11 @@ public class VertxUtil {
     }
 
     static Map<String, Cookie> extractCookies(MultivaluedMap<String, String> headers) {
-        Map<String, Cookie> cookies = new HashMap<String, Cookie>();
         List<String> cookieHeaders = headers.get("Cookie");
         if (cookieHeaders == null)
-            return cookies;
+            return Collections.emptyMap();
+
+        Map<String, Cookie> cookies = new HashMap<String, Cookie>();
 
         for (String cookieHeader : cookieHeaders) {
             for (Cookie cookie : CookieParser.parseCookies(cookieHeader)) {
@@ -0,0 +1,52 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class PathTrieTest {
+
+    @Test
+    public void testLiterals() {
+        PathTrie trie = new PathTrie(Arrays.asList("/hello", "/hello/world", "greeting/"));
+        assertTrue(trie.matches("/hello"));
+        assertTrue(trie.matches("hello/"));
+        assertTrue(trie.matches("/hello/world"));
+        assertTrue(trie.matches("/greeting"));
+        assertFalse(trie.matches("/"));
+        assertFalse(trie.matches("/hello/there"));
+        assertFalse(trie.matches("/hello/world/again"));
+    }
+
+    @Test
+    public void testParameters() {
+        PathTrie trie = new PathTrie(Arrays.asList("/users/{id}", "/users/{id}/orders/{order}", "/users/me/settings"));
+        assertTrue(trie.matches("/users/42"));
+        assertTrue(trie.matches("/users/42/orders/1"));
+        assertTrue(trie.matches("/users/me/settings"));
+        // the literal branch does not match, the parameter one does
+        assertTrue(trie.matches("/users/me/orders/1"));
+        assertFalse(trie.matches("/users"));
+        assertFalse(trie.matches("/users/42/orders"));
+    }
+
+    @Test
+    public void testMatrixParameters() {
+        PathTrie trie = new PathTrie(Arrays.asList("/cars/{make}", "/books/list"));
+        assertTrue(trie.matches("/books;sort=asc/list"));
+        assertTrue(trie.matches("/cars/mercedes;color=red"));
+    }
+
+    @Test
+    public void testRegularExpressions() {
+        PathTrie trie = new PathTrie(Arrays.asList("/files/{path: .*}", "/items/{id: \\d+}", "/a/prefix-{name}"));
+        assertTrue(trie.matches("/files"));
+        assertTrue(trie.matches("/files/a/b/c"));
+        assertTrue(trie.matches("/items/12"));
+        assertTrue(trie.matches("/a/prefix-x"));
+        assertFalse(trie.matches("/other"));
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.metrics.MetricRegistries;
+
+public class ConcurrentExecutionMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSkippedExecutionsExposed() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        Tag method = new Tag("method", Jobs.class.getName() + "#slowJob");
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Gauge<?> overrun = registry.getGauges().get(new MetricID("scheduled.executions.overrun", method));
+        Gauge<?> skipped = registry.getGauges().get(new MetricID("scheduled.executions.skipped", method));
+        assertNotNull(overrun, "Gauges: " + registry.getGauges().keySet());
+        assertNotNull(skipped);
+        assertTrue(((Long) overrun.getValue()) > 0);
+        assertTrue(((Long) skipped.getValue()) > 0);
+    }
+
+    @Test
+    public void testLatenessExposed() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        Tag method = new Tag("method", Jobs.class.getName() + "#slowJob");
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        for (String name : new String[] { "scheduled.trigger.lateness.last", "scheduled.trigger.lateness.max" }) {
+            assertTrue(registry.getGauges().keySet().stream()
+                    .anyMatch(id -> id.getName().equals(name) && id.getTags().containsValue(method.getTagValue())),
+                    "Gauges: " + registry.getGauges().keySet());
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void slowJob() throws InterruptedException {
+            Thread.sleep(500);
+            LATCH.countDown();
+        }
+
+    }
+
+}
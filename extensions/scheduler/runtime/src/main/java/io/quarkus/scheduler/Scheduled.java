@@ -81,6 +81,38 @@ public @interface Scheduled {
      */
     TimeUnit delayUnit() default TimeUnit.MINUTES;
 
+    /**
+     * Defines what happens if the trigger fires while a previous execution of the method is still running, whichever
+     * schedule of the method triggered it.
+     * <p>
+     * By default, the executions are allowed to run in parallel. Long running methods should use
+     * {@link ConcurrentExecution#SKIP} or {@link ConcurrentExecution#QUEUE} so that the overlapping executions do not
+     * pile up and starve the worker threads.
+     *
+     * @return the concurrent execution policy
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.PROCEED;
+
+    enum ConcurrentExecution {
+
+        /**
+         * The execution is performed even if the previous one is still running.
+         */
+        PROCEED,
+
+        /**
+         * The execution is skipped if the previous one is still running.
+         */
+        SKIP,
+
+        /**
+         * The execution is postponed until the previous one completes. At most one execution is queued, the other ones
+         * are skipped.
+         */
+        QUEUE,
+
+    }
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
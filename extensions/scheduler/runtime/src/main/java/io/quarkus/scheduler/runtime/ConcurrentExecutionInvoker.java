@@ -0,0 +1,105 @@
+package io.quarkus.scheduler.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * Applies the {@link ConcurrentExecution} policies of the schedules of a scheduled method to its invocations, and counts
+ * the executions that overrun and the executions that are skipped.
+ * <p>
+ * A single instance is shared by all the schedules of a method, so that an execution triggered by one schedule is
+ * taken into account by the others. Each schedule invokes the method through {@link #withPolicy(ConcurrentExecution)}.
+ *
+ * @see io.quarkus.scheduler.Scheduled#concurrentExecution()
+ */
+public class ConcurrentExecutionInvoker {
+
+    private static final Logger LOGGER = Logger.getLogger(ConcurrentExecutionInvoker.class);
+
+    private final ScheduledInvoker delegate;
+
+    // All the fields below are guarded by this
+    private int running;
+    private ScheduledExecution queued;
+    private long overrunExecutions;
+    private long skippedExecutions;
+
+    public ConcurrentExecutionInvoker(ScheduledInvoker delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param concurrentExecution the policy of a schedule of the method
+     * @return the invoker to be used by that schedule
+     */
+    public ScheduledInvoker withPolicy(ConcurrentExecution concurrentExecution) {
+        return execution -> invoke(execution, concurrentExecution);
+    }
+
+    private void invoke(ScheduledExecution execution, ConcurrentExecution concurrentExecution) {
+        synchronized (this) {
+            if (running > 0) {
+                overrunExecutions++;
+                if (concurrentExecution == ConcurrentExecution.QUEUE && queued == null) {
+                    // The running execution will perform this one when it completes
+                    queued = execution;
+                    return;
+                }
+                if (concurrentExecution != ConcurrentExecution.PROCEED) {
+                    skippedExecutions++;
+                    LOGGER.debugf("Skipped execution of trigger %s - the previous execution is still running",
+                            execution.getTrigger().getId());
+                    return;
+                }
+            }
+            running++;
+        }
+        ScheduledExecution next = execution;
+        boolean completed = false;
+        try {
+            while (true) {
+                delegate.invoke(next);
+                synchronized (this) {
+                    // Only set with ConcurrentExecution.QUEUE
+                    next = queued;
+                    queued = null;
+                    if (next == null) {
+                        running--;
+                        completed = true;
+                        return;
+                    }
+                }
+            }
+        } finally {
+            if (!completed) {
+                synchronized (this) {
+                    running--;
+                    if (queued != null) {
+                        // The queued execution is dropped if the previous one failed
+                        queued = null;
+                        skippedExecutions++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 
+     * @return the number of times a trigger of the method fired while a previous execution was still running
+     */
+    public synchronized long getOverrunExecutions() {
+        return overrunExecutions;
+    }
+
+    /**
+     * 
+     * @return the number of executions of the method skipped because of the concurrent execution policy
+     */
+    public synchronized long getSkippedExecutions() {
+        return skippedExecutions;
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.logging.Logger;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the counters of the {@link ConcurrentExecutionInvoker} of each scheduled method, and the lateness of the
+ * triggers of the simple scheduler, as vendor metrics tagged with the method, when the SmallRye Metrics extension is
+ * present.
+ */
+public final class SchedulerMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(SchedulerMetrics.class);
+
+    static final String OVERRUN_EXECUTIONS = "scheduled.executions.overrun";
+    static final String SKIPPED_EXECUTIONS = "scheduled.executions.skipped";
+    static final String LAST_LATENESS = "scheduled.trigger.lateness.last";
+    static final String MAX_LATENESS = "scheduled.trigger.lateness.max";
+
+    private static final boolean METRICS_PRESENT = isMetricsPresent();
+
+    private final List<Object> ids = new ArrayList<>();
+
+    /**
+     * Register the metrics of a scheduled method. Does nothing if the SmallRye Metrics extension is not present.
+     *
+     * @param method the description of the method
+     * @param invoker the invoker of the method
+     */
+    public void register(String method, ConcurrentExecutionInvoker invoker) {
+        if (METRICS_PRESENT) {
+            Registration.register(ids, method, invoker);
+        }
+    }
+
+    /**
+     * Register the lateness metrics of a trigger, i.e. the delay between its scheduled fire time and the time it
+     * actually fired. Does nothing if the SmallRye Metrics extension is not present.
+     *
+     * @param method the description of the method
+     * @param trigger the identifier of the trigger
+     * @param lastLateness the lateness of the last execution, in milliseconds
+     * @param maxLateness the maximum lateness, in milliseconds
+     */
+    public void registerLateness(String method, String trigger, LongSupplier lastLateness, LongSupplier maxLateness) {
+        if (METRICS_PRESENT) {
+            Registration.registerLateness(ids, method, trigger, lastLateness, maxLateness);
+        }
+    }
+
+    /**
+     * Remove all the metrics registered by this instance.
+     */
+    public void unregister() {
+        if (METRICS_PRESENT) {
+            Registration.unregister(ids);
+        }
+    }
+
+    private static boolean isMetricsPresent() {
+        try {
+            Class.forName("io.smallrye.metrics.MetricRegistries", false, SchedulerMetrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // Only loaded if the metrics classes are present
+    private static final class Registration {
+
+        static void register(List<Object> ids, String method, ConcurrentExecutionInvoker invoker) {
+            MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+            Tag tag = new Tag("method", method);
+            Metadata overrun = Metadata.builder()
+                    .withName(OVERRUN_EXECUTIONS)
+                    .withType(MetricType.GAUGE)
+                    .withDescription("Displays the number of times a trigger of the scheduled method fired while "
+                            + "a previous execution was still running.")
+                    .build();
+            Metadata skipped = Metadata.builder()
+                    .withName(SKIPPED_EXECUTIONS)
+                    .withType(MetricType.GAUGE)
+                    .withDescription("Displays the number of executions of the scheduled method skipped because of "
+                            + "its concurrent execution policy.")
+                    .build();
+            try {
+                registry.register(overrun, (Gauge<Long>) invoker::getOverrunExecutions, tag);
+                ids.add(new MetricID(OVERRUN_EXECUTIONS, tag));
+                registry.register(skipped, (Gauge<Long>) invoker::getSkippedExecutions, tag);
+                ids.add(new MetricID(SKIPPED_EXECUTIONS, tag));
+            } catch (IllegalArgumentException e) {
+                // e.g. registered by a previous scheduler in dev mode
+                LOGGER.debugf(e, "Unable to register the metrics of %s", method);
+            }
+        }
+
+        static void registerLateness(List<Object> ids, String method, String trigger, LongSupplier lastLateness,
+                LongSupplier maxLateness) {
+            MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+            Tag[] tags = { new Tag("method", method), new Tag("trigger", trigger) };
+            Metadata last = Metadata.builder()
+                    .withName(LAST_LATENESS)
+                    .withType(MetricType.GAUGE)
+                    .withUnit(MetricUnits.MILLISECONDS)
+                    .withDescription("Displays the delay between the scheduled fire time and the actual fire time of "
+                            + "the last execution of the trigger.")
+                    .build();
+            Metadata max = Metadata.builder()
+                    .withName(MAX_LATENESS)
+                    .withType(MetricType.GAUGE)
+                    .withUnit(MetricUnits.MILLISECONDS)
+                    .withDescription("Displays the maximum delay between the scheduled fire time and the actual fire "
+                            + "time of the trigger.")
+                    .build();
+            try {
+                registry.register(last, (Gauge<Long>) lastLateness::getAsLong, tags);
+                ids.add(new MetricID(LAST_LATENESS, tags));
+                registry.register(max, (Gauge<Long>) maxLateness::getAsLong, tags);
+                ids.add(new MetricID(MAX_LATENESS, tags));
+            } catch (IllegalArgumentException e) {
+                LOGGER.debugf(e, "Unable to register the lateness metrics of %s", trigger);
+            }
+        }
+
+        static void unregister(List<Object> ids) {
+            MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+            for (Object id : ids) {
+                registry.remove((MetricID) id);
+            }
+            ids.clear();
+        }
+    }
+
+}
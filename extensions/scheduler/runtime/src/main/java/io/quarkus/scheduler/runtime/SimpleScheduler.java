@@ -2,7 +2,6 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -42,14 +41,13 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final AtomicInteger triggerNameSequence;
     private final Config config;
+    private final SchedulerMetrics metrics;
 
     public SimpleScheduler(SchedulerSupport support, Config config) {
         this.running = true;
@@ -57,6 +55,7 @@ public class SimpleScheduler implements Scheduler {
         this.triggerNameSequence = new AtomicInteger();
         this.executor = support.getExecutor();
         this.config = config;
+        this.metrics = new SchedulerMetrics();
 
         if (support.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
@@ -72,10 +71,15 @@ public class SimpleScheduler implements Scheduler {
             CronParser parser = new CronParser(definition);
 
             for (ScheduledMethodMetadata method : support.getScheduledMethods()) {
-                ScheduledInvoker invoker = support.createInvoker(method.getInvokerClassName());
+                // Shared by the schedules of the method
+                ConcurrentExecutionInvoker invoker = new ConcurrentExecutionInvoker(
+                        support.createInvoker(method.getInvokerClassName()));
+                metrics.register(method.getMethodDescription(), invoker);
                 for (Scheduled scheduled : method.getSchedules()) {
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled);
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    metrics.registerLateness(method.getMethodDescription(), trigger.getId(), trigger::getLastLateness,
+                            trigger::getMaxLateness);
+                    scheduledTasks.add(new ScheduledTask(trigger, invoker.withPolicy(scheduled.concurrentExecution())));
                 }
             }
         }
@@ -85,16 +89,15 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            schedule(task, now);
+        }
     }
 
     @PreDestroy
     void stop() {
+        metrics.unregister();
         try {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
@@ -104,28 +107,49 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
+    /**
+     * Schedules the next fire time of the given task. The scheduled executor keeps its tasks in a queue ordered by
+     * deadline, so the thread only wakes up when the earliest trigger is due, no matter how many triggers there are.
+     */
+    void schedule(ScheduledTask task, ZonedDateTime now) {
+        ZonedDateTime nextFireTime = task.trigger.scheduleNext(now);
+        if (nextFireTime == null) {
+            LOGGER.debugf("Trigger %s will not fire again", task.trigger.id);
+            return;
         }
-        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            scheduledExecutor.schedule(() -> fire(task), Math.max(0, ChronoUnit.MICROS.between(now, nextFireTime)),
+                    TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler is being stopped
+            LOGGER.tracef("Unable to schedule trigger %s - scheduler stopped", task.trigger.id);
+        }
+    }
 
-        for (ScheduledTask task : scheduledTasks) {
-            LOGGER.tracef("Evaluate trigger %s", task.trigger.id);
-            ZonedDateTime scheduledFireTime = task.trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
-                        }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger.id);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger.id);
-                }
+    void fire(ScheduledTask task) {
+        ZonedDateTime now = ZonedDateTime.now();
+        try {
+            if (running) {
+                ZonedDateTime scheduledFireTime = task.trigger.fire(now);
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
+                    }
+                });
+                LOGGER.debugf("Executing scheduled task for trigger %s [lateness=%s ms, max lateness=%s ms]",
+                        task.trigger.id, task.trigger.getLastLateness(), task.trigger.getMaxLateness());
+            } else {
+                LOGGER.tracef("Skip trigger %s - scheduler paused", task.trigger.id);
             }
+        } catch (RejectedExecutionException e) {
+            LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger.id);
+        } catch (RuntimeException e) {
+            // Would be swallowed by the scheduled executor
+            LOGGER.errorf(e, "Unable to fire trigger %s", task.trigger.id);
+        } finally {
+            // The trigger must keep firing whatever happened to this execution
+            schedule(task, now);
         }
     }
 
@@ -195,6 +219,11 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        // Only modified by the scheduler thread
+        private volatile ZonedDateTime nextFireTime;
+        private volatile ZonedDateTime lastFireTime;
+        private volatile long lastLateness;
+        private volatile long maxLateness;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -203,21 +232,69 @@ public class SimpleScheduler implements Scheduler {
 
         /**
          * 
+         * @param previous the previous scheduled fire time, or {@code null} if not scheduled yet
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next scheduled fire time, or {@code null} if the trigger will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime previous, ZonedDateTime now);
+
+        ZonedDateTime scheduleNext(ZonedDateTime now) {
+            return nextFireTime = computeNextFireTime(nextFireTime, now);
+        }
+
+        /**
+         * 
+         * @param now
+         * @return the scheduled fire time
+         */
+        ZonedDateTime fire(ZonedDateTime now) {
+            ZonedDateTime scheduledFireTime = nextFireTime;
+            long lateness = Math.max(0, ChronoUnit.MILLIS.between(scheduledFireTime, now));
+            lastFireTime = now;
+            lastLateness = lateness;
+            if (lateness > maxLateness) {
+                maxLateness = lateness;
+            }
+            return scheduledFireTime;
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
+        /**
+         * 
+         * @return the delay between the scheduled fire time and the actual fire time of the last execution, in milliseconds
+         */
+        long getLastLateness() {
+            return lastLateness;
+        }
+
+        /**
+         * 
+         * @return the maximum delay between the scheduled fire time and the actual fire time, in milliseconds
+         */
+        long getMaxLateness() {
+            return maxLateness;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
@@ -225,31 +302,14 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
+        ZonedDateTime computeNextFireTime(ZonedDateTime previous, ZonedDateTime now) {
+            if (previous == null) {
                 // First execution
-                lastFireTime = now;
-                return now;
+                return now.isBefore(start) ? start : now;
             }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now;
-                return scheduledFireTime;
-            }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            ZonedDateTime next = previous.plus(Duration.ofMillis(interval));
+            // Do not try to catch up the executions missed, e.g. when the system was suspended
+            return next.isBefore(now) ? now : next;
         }
 
     }
@@ -264,33 +324,17 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                long diff = ChronoUnit.MILLIS.between(trunc, now);
-                if (diff <= CHECK_PERIOD) {
-                    return trunc;
-                }
+        ZonedDateTime computeNextFireTime(ZonedDateTime previous, ZonedDateTime now) {
+            ZonedDateTime from = now;
+            if (from.isBefore(start)) {
+                // The start is not truncated, it may be a valid execution time itself
+                from = start.minusNanos(1);
+            } else if (previous != null && previous.isAfter(from)) {
+                // The task may be executed a bit sooner than scheduled, make sure it does not fire twice
+                from = previous;
             }
-            return null;
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(from);
+            return nextFireTime.isPresent() ? nextFireTime.get() : null;
         }
 
     }
@@ -66,6 +66,7 @@ import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.deployment.devmode.NotFoundPageDisplayableEndpointBuildItem;
 import io.quarkus.vertx.http.runtime.HandlerType;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.smallrye.metrics.MetricProducer;
 import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.MetricsRequestHandler;
@@ -235,6 +236,15 @@ public class SmallRyeMetricsProcessor {
         metrics.registerVendorMetrics(shutdown);
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerHttpMetrics(SmallRyeMetricsRecorder metrics, ShutdownContextBuildItem shutdown,
+            HttpBuildTimeConfig httpConfig) {
+        if (httpConfig.metricsEnabled) {
+            metrics.registerHttpMetrics(shutdown);
+        }
+    }
+
     @BuildStep
     public void logCleanup(BuildProducer<LogCleanupFilterBuildItem> logCleanupFilter) {
         logCleanupFilter.produce(new LogCleanupFilterBuildItem("io.smallrye.metrics.MetricsRegistryImpl",
@@ -0,0 +1,89 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Snapshot;
+
+import io.quarkus.vertx.http.runtime.metrics.LatencyHistogram;
+
+/**
+ * Exposes a {@link LatencyHistogram} recorded by the HTTP server as a read-only {@link Histogram}.
+ */
+public class LatencyHistogramAdapter implements Histogram {
+
+    private static final String MUST_NOT_BE_CALLED = "Must not be called";
+
+    private final LatencyHistogram histogram;
+
+    public LatencyHistogramAdapter(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void update(int value) {
+        throw new IllegalStateException(MUST_NOT_BE_CALLED);
+    }
+
+    @Override
+    public void update(long value) {
+        throw new IllegalStateException(MUST_NOT_BE_CALLED);
+    }
+
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        return new Snapshot() {
+            @Override
+            public double getValue(double quantile) {
+                return histogram.getValueAtQuantile(quantile);
+            }
+
+            @Override
+            public long[] getValues() {
+                return new long[] { histogram.getMin(), histogram.getValueAtQuantile(0.5), histogram.getMax() };
+            }
+
+            @Override
+            public int size() {
+                return (int) Math.min(Integer.MAX_VALUE, histogram.getCount());
+            }
+
+            @Override
+            public long getMax() {
+                return histogram.getMax();
+            }
+
+            @Override
+            public double getMean() {
+                return histogram.getMean();
+            }
+
+            @Override
+            public long getMin() {
+                return histogram.getMin();
+            }
+
+            @Override
+            public double getStdDev() {
+                return histogram.getStdDev();
+            }
+
+            @Override
+            public void dump(OutputStream output) {
+                PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                for (long value : getValues()) {
+                    writer.println(value);
+                }
+                writer.flush();
+            }
+        };
+    }
+}
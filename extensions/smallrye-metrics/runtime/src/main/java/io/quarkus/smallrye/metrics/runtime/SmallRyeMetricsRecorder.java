@@ -9,13 +9,16 @@ import java.lang.management.OperatingSystemMXBean;
 import java.lang.management.RuntimeMXBean;
 import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.enterprise.inject.spi.BeanManager;
 
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.MetricUnits;
@@ -29,6 +32,8 @@ import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
+import io.quarkus.vertx.http.runtime.metrics.RouteMetrics;
 import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.TagsUtils;
 import io.smallrye.metrics.elementdesc.BeanInfo;
@@ -73,6 +78,14 @@ public class SmallRyeMetricsRecorder {
     private static final String MEMORY_USED_HEAP = "memory.usedHeap";
     private static final String MEMORY_USED_NON_HEAP = "memory.usedNonHeap";
 
+    // http
+    private static final String HTTP_IN_FLIGHT = "http.server.inFlight";
+    private static final String HTTP_LATENCY = "http.server.latency";
+    private static final String HTTP_BYTES_READ = "http.server.bytesRead";
+    private static final String HTTP_BYTES_WRITTEN = "http.server.bytesWritten";
+    private static final String HTTP_IO_THREAD_TIME = "http.server.ioThreadTime";
+    private static final String HTTP_OFFLOADED_TIME = "http.server.offloadedTime";
+
     public Function<Router, Route> route(String name) {
         return new Function<Router, Route>() {
             @Override
@@ -125,6 +138,105 @@ public class SmallRyeMetricsRecorder {
         }
     }
 
+    public void registerHttpMetrics(ShutdownContext shutdown) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        List<MetricID> ids = new ArrayList<>();
+
+        Metadata inFlight = Metadata.builder()
+                .withName(HTTP_IN_FLIGHT)
+                .withType(MetricType.GAUGE)
+                .withDisplayName("HTTP Requests In Flight")
+                .withDescription("Displays the number of HTTP requests currently being handled.")
+                .build();
+        registry.register(inFlight, new LambdaGauge(() -> {
+            HttpMetrics metrics = HttpMetrics.current();
+            return metrics == null ? 0L : metrics.getInFlight();
+        }));
+        ids.add(new MetricID(HTTP_IN_FLIGHT));
+
+        Metadata latency = Metadata.builder()
+                .withName(HTTP_LATENCY)
+                .withType(MetricType.HISTOGRAM)
+                .withDisplayName("HTTP Request Latency")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Displays the distribution of the HTTP request durations, per route.")
+                .build();
+        Metadata bytesRead = Metadata.builder()
+                .withName(HTTP_BYTES_READ)
+                .withType(MetricType.COUNTER)
+                .withDisplayName("HTTP Bytes Read")
+                .withUnit(MetricUnits.BYTES)
+                .withDescription("Displays the total size of the HTTP request bodies, per route.")
+                .build();
+        Metadata bytesWritten = Metadata.builder()
+                .withName(HTTP_BYTES_WRITTEN)
+                .withType(MetricType.COUNTER)
+                .withDisplayName("HTTP Bytes Written")
+                .withUnit(MetricUnits.BYTES)
+                .withDescription("Displays the total size of the HTTP response bodies, per route.")
+                .build();
+        Metadata ioThreadTime = Metadata.builder()
+                .withName(HTTP_IO_THREAD_TIME)
+                .withType(MetricType.COUNTER)
+                .withDisplayName("HTTP IO Thread Time")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Displays the total time spent handling HTTP requests on the IO threads, per route.")
+                .build();
+        Metadata offloadedTime = Metadata.builder()
+                .withName(HTTP_OFFLOADED_TIME)
+                .withType(MetricType.COUNTER)
+                .withDisplayName("HTTP Offloaded Time")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Displays the total time spent handling HTTP requests after the IO thread was released, "
+                        + "on worker threads or waiting for asynchronous results, per route.")
+                .build();
+
+        HttpMetrics.setListener(new Consumer<RouteMetrics>() {
+            @Override
+            public void accept(RouteMetrics route) {
+                Tag tag = new Tag("route", route.getRoute());
+                synchronized (ids) {
+                    registry.register(latency, new LatencyHistogramAdapter(route.getLatency()), tag);
+                    registry.register(bytesRead, new LambdaCounter(route::getBytesRead), tag);
+                    registry.register(bytesWritten, new LambdaCounter(route::getBytesWritten), tag);
+                    registry.register(ioThreadTime, new LambdaCounter(route::getIoThreadTime), tag);
+                    registry.register(offloadedTime, new LambdaCounter(route::getOffloadedTime), tag);
+                    for (Metadata metadata : Arrays.asList(latency, bytesRead, bytesWritten, ioThreadTime,
+                            offloadedTime)) {
+                        ids.add(new MetricID(metadata.getName(), tag));
+                    }
+                }
+            }
+        });
+
+        HttpMetrics.setCounterListener(new Consumer<HttpMetrics.Counter>() {
+            @Override
+            public void accept(HttpMetrics.Counter counter) {
+                Metadata metadata = Metadata.builder()
+                        .withName(counter.getName())
+                        .withType(MetricType.COUNTER)
+                        .withDescription(counter.getDescription())
+                        .build();
+                synchronized (ids) {
+                    MetricID id = new MetricID(counter.getName());
+                    registry.remove(id);
+                    registry.register(metadata, new LambdaCounter(counter::getCount));
+                    ids.add(id);
+                }
+            }
+        });
+
+        shutdown.addShutdownTask(() -> {
+            HttpMetrics.setListener(null);
+            HttpMetrics.setCounterListener(null);
+            synchronized (ids) {
+                for (MetricID id : ids) {
+                    registry.remove(id);
+                }
+            }
+        });
+    }
+
     public void registerMetrics(BeanInfo beanInfo, MemberInfo memberInfo) {
         MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.APPLICATION);
         MetricsMetadata.registerMetrics(registry,
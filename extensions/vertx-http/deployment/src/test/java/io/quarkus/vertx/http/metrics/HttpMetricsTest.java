@@ -0,0 +1,75 @@
+package io.quarkus.vertx.http.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
+import io.quarkus.vertx.http.runtime.metrics.RouteMetrics;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class HttpMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset("quarkus.http.metrics-enabled=true"), "application.properties"));
+
+    @Test
+    public void testRouteTemplate() {
+        RestAssured.get("/items/1").then().statusCode(200);
+        RestAssured.get("/items/2").then().statusCode(200);
+
+        HttpMetrics metrics = HttpMetrics.current();
+        assertNotNull(metrics);
+        RouteMetrics route = metrics.getRoutes().stream().filter(r -> r.getRoute().equals("/items/{id}")).findFirst()
+                .orElse(null);
+        assertNotNull(route, "Routes: " + metrics.getRoutes().stream().map(RouteMetrics::getRoute)
+                .collect(Collectors.toList()));
+        assertEquals(2, route.getLatency().getCount());
+    }
+
+    @Test
+    public void testInFlightAfterConnectionReset() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            try {
+                RestAssured.get("/reset");
+            } catch (Exception expected) {
+                // the connection is closed without a response
+            }
+        }
+        HttpMetrics metrics = HttpMetrics.current();
+        assertNotNull(metrics);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.getInFlight() != 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        void register(@Observes Router router) {
+            router.route("/items/:id").handler(rc -> {
+                rc.put(HttpMetrics.ROUTE_TEMPLATE, "/items/{id}");
+                rc.response().end(rc.pathParam("id"));
+            });
+            router.route("/reset").handler(rc -> rc.request().connection().close());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.vertx.http.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.metrics.LatencyHistogram;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    public void testQuantiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(1_000, histogram.getMin());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_500, histogram.getMean(), 1);
+        assertWithinError(50_000_000, histogram.getValueAtQuantile(0.5));
+        assertWithinError(99_000_000, histogram.getValueAtQuantile(0.99));
+        assertEquals(100_000_000, histogram.getValueAtQuantile(1));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 0; i < 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(4, histogram.getValueAtQuantile(0.5));
+        assertEquals(9, histogram.getValueAtQuantile(1));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        double error = Math.abs(expected - actual) / (double) expected;
+        assertTrue(error <= 1.0 / 16, "Expected " + expected + " but was " + actual);
+    }
+}
@@ -15,4 +15,11 @@ public class HttpBuildTimeConfig {
 
     public AuthConfig auth;
 
+    /**
+     * If enabled, the latency, size and threading of the requests are measured for each route. The measurements are
+     * exposed through the metrics extension, if it is present.
+     */
+    @ConfigItem
+    public boolean metricsEnabled;
+
 }
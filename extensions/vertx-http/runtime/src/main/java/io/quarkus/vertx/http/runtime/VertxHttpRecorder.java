@@ -38,6 +38,8 @@ import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetrics;
+import io.quarkus.vertx.http.runtime.metrics.HttpMetricsHandler;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
@@ -168,10 +170,19 @@ public class VertxHttpRecorder {
 
     public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRouteHandler,
             List<Filter> filterList, RuntimeValue<Vertx> vertx,
-            RuntimeValue<Router> runtimeValue, String rootPath, LaunchMode launchMode) {
+            RuntimeValue<Router> runtimeValue, String rootPath, LaunchMode launchMode, boolean metricsEnabled,
+            ShutdownContext shutdown) {
         // install the default route at the end
         Router router = runtimeValue.getValue();
 
+        if (metricsEnabled) {
+            HttpMetrics metrics = new HttpMetrics();
+            HttpMetrics.setCurrent(metrics);
+            shutdown.addShutdownTask(() -> HttpMetrics.setCurrent(null));
+            // measure as much of the request as possible, only the hot replacement handler comes first
+            router.route().order(Integer.MIN_VALUE).handler(new HttpMetricsHandler(metrics));
+        }
+
         //allow the router to be modified programmatically
         Event<Object> event = Arc.container().beanManager().getEvent();
 
@@ -0,0 +1,163 @@
+package io.quarkus.vertx.http.runtime.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * The HTTP server metrics collected by {@link HttpMetricsHandler} when {@code quarkus.http.metrics-enabled} is set.
+ * <p>
+ * Route metrics are created the first time a route handles a request. Extensions that expose the metrics, such as
+ * the SmallRye Metrics one, register a listener to be notified of every route.
+ * <p>
+ * Extensions handling HTTP requests can also contribute their own counters with
+ * {@link #registerCounter(String, String, LongSupplier)}.
+ */
+public final class HttpMetrics {
+
+    /**
+     * The routing context key of the path template of the resource that handled a request. Handlers serving several
+     * resources from a single route, such as RESTEasy, set it so that the requests are measured per resource instead
+     * of per route.
+     */
+    public static final String ROUTE_TEMPLATE = HttpMetrics.class.getName() + ".route-template";
+
+    private static volatile HttpMetrics current;
+    private static volatile Consumer<RouteMetrics> listener;
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static volatile Consumer<Counter> counterListener;
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final LongAdder inFlight = new LongAdder();
+
+    HttpMetrics() {
+    }
+
+    /**
+     * @return the metrics of the running server, or {@code null} if they are not enabled
+     */
+    public static HttpMetrics current() {
+        return current;
+    }
+
+    static void setCurrent(HttpMetrics metrics) {
+        current = metrics;
+    }
+
+    /**
+     * Set the listener notified of every route that starts being measured. The routes already measured are replayed
+     * to the listener.
+     *
+     * @param routeListener the listener, or {@code null} to remove it
+     */
+    public static void setListener(Consumer<RouteMetrics> routeListener) {
+        listener = routeListener;
+        HttpMetrics metrics = current;
+        if (routeListener != null && metrics != null) {
+            metrics.routes.values().forEach(routeListener);
+        }
+    }
+
+    /**
+     * Register a counter contributed by an extension. It replaces any counter registered with the same name.
+     *
+     * @param name the name of the counter
+     * @param description the description of the counter
+     * @param count the current value of the counter
+     */
+    public static void registerCounter(String name, String description, LongSupplier count) {
+        Counter counter = new Counter(name, description, count);
+        counters.put(name, counter);
+        Consumer<Counter> listener = counterListener;
+        if (listener != null) {
+            listener.accept(counter);
+        }
+    }
+
+    /**
+     * @param name the name of the counter to remove
+     */
+    public static void removeCounter(String name) {
+        counters.remove(name);
+    }
+
+    /**
+     * Set the listener notified of every counter registered by an extension. The counters already registered are
+     * replayed to the listener.
+     *
+     * @param listener the listener, or {@code null} to remove it
+     */
+    public static void setCounterListener(Consumer<Counter> listener) {
+        counterListener = listener;
+        if (listener != null) {
+            counters.values().forEach(listener);
+        }
+    }
+
+    /**
+     * @return the number of requests currently being handled
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    public Collection<RouteMetrics> getRoutes() {
+        return Collections.unmodifiableCollection(routes.values());
+    }
+
+    void requestStarted() {
+        inFlight.increment();
+    }
+
+    void requestEnded() {
+        inFlight.decrement();
+    }
+
+    RouteMetrics route(String route) {
+        RouteMetrics metrics = routes.get(route);
+        if (metrics == null) {
+            RouteMetrics created = new RouteMetrics(route);
+            metrics = routes.putIfAbsent(route, created);
+            if (metrics == null) {
+                metrics = created;
+                Consumer<RouteMetrics> routeListener = listener;
+                if (routeListener != null) {
+                    routeListener.accept(created);
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * A counter contributed by an extension.
+     */
+    public static final class Counter {
+
+        private final String name;
+        private final String description;
+        private final LongSupplier count;
+
+        Counter(String name, String description, LongSupplier count) {
+            this.name = name;
+            this.description = description;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getCount() {
+            return count.getAsLong();
+        }
+    }
+}
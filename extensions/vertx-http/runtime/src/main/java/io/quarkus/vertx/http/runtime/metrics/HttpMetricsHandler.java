@@ -0,0 +1,98 @@
+package io.quarkus.vertx.http.runtime.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Installed first on the root router, measures every request.
+ * <p>
+ * The time spent on the IO thread is the time spent in the downstream handlers before they return, i.e. before the
+ * request is handed over to a worker thread or left waiting for an asynchronous result. The rest of the request
+ * duration is accounted as offloaded time.
+ * <p>
+ * Requests are measured per resource when the handler sets {@link HttpMetrics#ROUTE_TEMPLATE}, per route otherwise.
+ */
+public class HttpMetricsHandler implements Handler<RoutingContext> {
+
+    static final String ANY_ROUTE = "*";
+
+    private final HttpMetrics metrics;
+    // the requests in flight of each open connection, ended if their connection is closed
+    private final Map<HttpConnection, Set<RequestEnd>> inFlight = new ConcurrentHashMap<>();
+
+    public HttpMetricsHandler(HttpMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        long start = System.nanoTime();
+        // The body end handler is not called if the connection is closed before the response ends. The response
+        // end, close and exception handlers cannot be used for that, there is only one of each and downstream
+        // handlers such as RESTEasy replace them.
+        HttpConnection connection = event.request().connection();
+        Set<RequestEnd> requests = inFlight.computeIfAbsent(connection, c -> {
+            Set<RequestEnd> connectionRequests = ConcurrentHashMap.newKeySet();
+            c.closeHandler(v -> {
+                inFlight.remove(c);
+                for (RequestEnd request : connectionRequests) {
+                    request.handle(null);
+                }
+            });
+            return connectionRequests;
+        });
+        RequestEnd end = new RequestEnd(event, requests, start);
+        requests.add(end);
+        metrics.requestStarted();
+        event.addBodyEndHandler(end);
+        try {
+            event.next();
+        } finally {
+            end.ioThreadDuration = System.nanoTime() - end.start;
+        }
+    }
+
+    private final class RequestEnd implements Handler<Void> {
+
+        private final RoutingContext event;
+        private final long start;
+        private final Set<RequestEnd> requests;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        // only read once the response has ended, which happens-after the request was dispatched
+        volatile long ioThreadDuration;
+
+        RequestEnd(RoutingContext event, Set<RequestEnd> requests, long start) {
+            this.event = event;
+            this.requests = requests;
+            this.start = start;
+        }
+
+        @Override
+        public void handle(Void ignored) {
+            // called by whichever of the body end and connection close handlers comes first
+            if (!ended.compareAndSet(false, true)) {
+                return;
+            }
+            requests.remove(this);
+            long duration = System.nanoTime() - start;
+            metrics.requestEnded();
+            String path = event.get(HttpMetrics.ROUTE_TEMPLATE);
+            if (path == null) {
+                Route route = event.currentRoute();
+                path = route == null ? null : route.getPath();
+            }
+            long ioThread = ioThreadDuration;
+            metrics.route(path == null ? ANY_ROUTE : path).record(duration,
+                    // the response may have ended before the handlers returned
+                    ioThread == 0 ? duration : Math.min(ioThread, duration),
+                    event.request().bytesRead(), event.response().bytesWritten());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.vertx.http.runtime.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics collected for the requests handled by one route.
+ */
+public final class RouteMetrics {
+
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder ioThreadTime = new LongAdder();
+    private final LongAdder offloadedTime = new LongAdder();
+
+    RouteMetrics(String route) {
+        this.route = route;
+    }
+
+    void record(long duration, long ioThreadDuration, long read, long written) {
+        latency.record(duration);
+        ioThreadTime.add(ioThreadDuration);
+        offloadedTime.add(Math.max(0, duration - ioThreadDuration));
+        bytesRead.add(read);
+        bytesWritten.add(written);
+    }
+
+    /**
+     * @return the path of the route, or {@code *} for routes that match any path
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return the histogram of the request durations, in nanoseconds
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * @return the total time spent handling requests on the IO thread before it was released, in nanoseconds
+     */
+    public long getIoThreadTime() {
+        return ioThreadTime.sum();
+    }
+
+    /**
+     * @return the total time between the release of the IO thread and the end of the response, in nanoseconds; this
+     *         is the time spent on worker threads, waiting for them, or waiting for asynchronous results
+     */
+    public long getOffloadedTime() {
+        return offloadedTime.sum();
+    }
+}
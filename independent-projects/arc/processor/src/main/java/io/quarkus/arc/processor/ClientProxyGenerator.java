@@ -3,9 +3,11 @@ package io.quarkus.arc.processor;
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
@@ -43,6 +45,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String DELEGATE_METHOD_NAME = "arc$delegate";
     static final String GET_CONTEXTUAL_INSTANCE_METHOD_NAME = "arc_contextualInstance";
     static final String GET_BEAN = "arc_bean";
+    static final String HANDLE_FIELD_NAME = "arc$handle";
 
     private final Predicate<DotName> applicationClassPredicate;
 
@@ -87,7 +90,14 @@ public class ClientProxyGenerator extends AbstractGenerator {
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+            FieldCreator handleField = clientProxy.getFieldCreator(HANDLE_FIELD_NAME, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+            implementApplicationScopedDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor(),
+                    handleField.getFieldDescriptor());
+        } else {
+            implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        }
         implementGetContextualInstance(clientProxy, providerTypeName);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
 
@@ -208,6 +218,28 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(ret);
     }
 
+    /**
+     * The contextual instance of an application scoped bean is only looked up in the context the first time, and then
+     * again after it was destroyed: its handle is cached in a volatile field of the client proxy.
+     */
+    void implementApplicationScopedDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField,
+            FieldDescriptor handleField) {
+        MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerTypeName)
+                .setModifiers(Modifier.PRIVATE);
+        // if(this.handle != null && !this.handle.isDestroyed()) return this.handle.get()
+        ResultHandle handle = creator.readInstanceField(handleField, creator.getThis());
+        BytecodeCreator cachedBranch = creator.ifNull(handle).falseBranch();
+        BytecodeCreator validBranch = cachedBranch
+                .ifNonZero(cachedBranch.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_DESTROYED, handle))
+                .falseBranch();
+        validBranch.returnValue(validBranch.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET, handle));
+        // this.handle = ClientProxies.getApplicationScopedHandle(this.bean)
+        ResultHandle newHandle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
+                creator.readInstanceField(beanField, creator.getThis()));
+        creator.writeInstanceField(handleField, creator.getThis(), newHandle);
+        creator.returnValue(creator.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET, newHandle));
+    }
+
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
         MethodCreator creator = clientProxy.getMethodCreator(GET_CONTEXTUAL_INSTANCE_METHOD_NAME, Object.class)
                 .setModifiers(Modifier.PUBLIC);
@@ -7,6 +7,8 @@ import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.FixedValueSupplier;
 import io.quarkus.arc.impl.InterceptorInvocation;
@@ -179,6 +181,15 @@ final class MethodDescriptors {
     static final MethodDescriptor CONTEXT_GET_IF_PRESENT = MethodDescriptor.ofMethod(Context.class, "get", Object.class,
             Contextual.class);
 
+    static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandleImpl.class, InjectableBean.class);
+
+    static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_IS_DESTROYED = MethodDescriptor.ofMethod(
+            ContextInstanceHandleImpl.class, "isDestroyed", boolean.class);
+
+    static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(ContextInstanceHandleImpl.class,
+            "get", Object.class);
+
     static final MethodDescriptor GET_IDENTIFIER = MethodDescriptor.ofMethod(InjectableBean.class, "getIdentifier",
             String.class);
 
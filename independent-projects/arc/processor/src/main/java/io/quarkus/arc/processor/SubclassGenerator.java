@@ -61,6 +61,7 @@ public class SubclassGenerator extends AbstractGenerator {
 
     protected static final String FIELD_NAME_PREDESTROYS = "preDestroys";
     protected static final String FIELD_NAME_METADATA = "metadata";
+    protected static final String FIELD_NAME_FORWARD_SUFFIX = "Forward";
     protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(SubclassMethodMetadata.class, "method",
             Method.class);
     protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(SubclassMethodMetadata.class, "chain",
@@ -263,7 +264,7 @@ public class SubclassGenerator extends AbstractGenerator {
             reflectionRegistration.registerMethod(method);
 
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
+            createForwardingMethod(classOutput, bean, method, methodId, subclass, constructor, providerTypeName,
                     metadataField.getFieldDescriptor(),
                     interceptedMethod);
         }
@@ -273,7 +274,7 @@ public class SubclassGenerator extends AbstractGenerator {
     }
 
     private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
-            ClassCreator subclass,
+            ClassCreator subclass, MethodCreator constructor,
             String providerTypeName, FieldDescriptor metadataField,
             InterceptionInfo interceptedMethod) {
 
@@ -304,9 +305,12 @@ public class SubclassGenerator extends AbstractGenerator {
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
 
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
+        // Forwarding function, created once per instance so that an invocation does not allocate it
+        // private final Function<InvocationContext, Object> m1Forward
+        // m1Forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FieldCreator forwardField = subclass.getFieldCreator(methodId + FIELD_NAME_FORWARD_SUFFIX, Function.class)
+                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        FunctionCreator func = constructor.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
@@ -321,8 +325,9 @@ public class SubclassGenerator extends AbstractGenerator {
                 MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
                         method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
                                 .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
+                constructor.getThis(), superParamHandles);
         funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        constructor.writeInstanceField(forwardField.getFieldDescriptor(), constructor.getThis(), func.getInstance());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -362,7 +367,8 @@ public class SubclassGenerator extends AbstractGenerator {
                 tryCatch.readInstanceField(metadataField, tryCatch.getThis()), methodIdHandle);
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                tryCatch.readInstanceField(forwardField.getFieldDescriptor(), tryCatch.getThis()), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
         tryCatch.returnValue(superResult != null ? ret : null);
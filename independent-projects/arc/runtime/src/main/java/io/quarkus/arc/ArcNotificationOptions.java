@@ -0,0 +1,29 @@
+package io.quarkus.arc;
+
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * ArC-specific options of asynchronous event notification.
+ *
+ * @see javax.enterprise.event.Event#fireAsync(Object, NotificationOptions)
+ */
+public final class ArcNotificationOptions {
+
+    /**
+     * If set to {@code true}, the delivery of the event is queued and executed together with the other batched deliveries
+     * submitted in the meantime, in a single task of the executor. This saves the scheduling of one task per event when
+     * events are fired at a high rate. The batched deliveries are executed sequentially, in the order of submission.
+     */
+    public static final String BATCHED_DELIVERY = "io.quarkus.arc.batchedDelivery";
+
+    private ArcNotificationOptions() {
+    }
+
+    /**
+     * @return the options of a batched delivery on the default executor
+     */
+    public static NotificationOptions batched() {
+        return NotificationOptions.of(BATCHED_DELIVERY, true);
+    }
+
+}
@@ -27,11 +27,20 @@ abstract class AbstractInvocationContext implements ArcInvocationContext, Suppli
             Constructor<?> constructor,
             Object[] parameters, LazyValue<Map<String, Object>> contextData,
             Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
+        this(target, method, constructor, parameters, interceptorBindings, chain);
+        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
+    }
+
+    /**
+     * Subclasses using this constructor must override {@link #getContextData()}.
+     */
+    protected AbstractInvocationContext(Object target, Method method,
+            Constructor<?> constructor,
+            Object[] parameters, Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
         this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters;
-        this.contextData = contextData != null ? contextData : new LazyValue<>(this);
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
@@ -33,6 +33,16 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         return handle != null ? (T) handle.get() : null;
     }
 
+    /**
+     * 
+     * @param bean
+     * @return the handle of the contextual instance of the given bean, created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getHandle(InjectableBean<T> bean) {
+        return (ContextInstanceHandleImpl<T>) instances.getValue(new Key<>(bean, new CreationalContextImpl<>(bean)));
+    }
+
     @Override
     public ContextState getState() {
         return this;
@@ -26,6 +26,8 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -79,8 +81,11 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    // Weak keys, the executors are provided by the callers and must not be retained by the container
+    private final Map<Executor, BatchingExecutor> batchingExecutors;
 
-    private final List<ResourceReferenceProvider> resourceProviders;
+    // Resource injection is rarely used, the providers are only loaded when needed
+    private final LazyValue<List<ResourceReferenceProvider>> resourceProviders;
 
     private volatile ExecutorService executorService;
 
@@ -94,12 +99,13 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            long start = System.nanoTime();
             Components components = componentsProvider.getComponents();
+            long created = System.nanoTime();
+            int interceptorsCount = interceptors.size();
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -124,19 +130,40 @@ public class ArcContainerImpl implements ArcContainer {
                     .entrySet()) {
                 transitiveInterceptorBindings.put(entry.getKey(), entry.getValue());
             }
+            if (LOGGER.isDebugEnabled()) {
+                long end = System.nanoTime();
+                interceptorsCount = interceptors.size() - interceptorsCount;
+                LOGGER.debugf(
+                        "Components registered from %s [beans=%s, interceptors=%s, observers=%s, created in %s us, registered in %s us]",
+                        componentsProvider.getClass().getName(), components.getBeans().size() - interceptorsCount,
+                        interceptorsCount, components.getObservers().size(), (created - start) / 1_000,
+                        (end - created) / 1_000);
+            }
         }
         // register built-in beans
         addBuiltInBeans();
+        // the request context indexes the request scoped beans, it must be the first context
+        requestContext = new RequestContext(beans);
+        contexts.add(0, requestContext);
 
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
-        resourceProviders = new ArrayList<>();
-        for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
+        batchingExecutors = new WeakHashMap<>();
+        // Use the same class loader as if the providers were loaded eagerly
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        resourceProviders = new LazyValue<>(() -> loadResourceProviders(classLoader));
+    }
+
+    private static List<ResourceReferenceProvider> loadResourceProviders(ClassLoader classLoader) {
+        List<ResourceReferenceProvider> resourceProviders = new ArrayList<>();
+        for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class,
+                classLoader)) {
             resourceProviders.add(resourceProvider);
         }
+        return resourceProviders;
     }
 
     private void addBuiltInBeans() {
@@ -276,6 +303,19 @@ public class ArcContainerImpl implements ArcContainer {
         this.executorService = executor;
     }
 
+    /**
+     * 
+     * @param executor
+     * @return the executor running the batched event deliveries on the given executor
+     */
+    Executor getBatchingExecutor(Executor executor) {
+        BatchingExecutor batchingExecutor;
+        synchronized (batchingExecutors) {
+            batchingExecutor = batchingExecutors.computeIfAbsent(executor, e -> new BatchingExecutor());
+        }
+        return task -> batchingExecutor.execute(task, executor);
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -318,6 +358,9 @@ public class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            synchronized (batchingExecutors) {
+                batchingExecutors.clear();
+            }
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -325,7 +368,7 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     InstanceHandle<Object> getResource(Type type, Set<Annotation> annotations) {
-        for (ResourceReferenceProvider resourceProvider : resourceProviders) {
+        for (ResourceReferenceProvider resourceProvider : resourceProviders.get()) {
             InstanceHandle<Object> ret = resourceProvider.get(type, annotations);
             if (ret != null) {
                 return ret;
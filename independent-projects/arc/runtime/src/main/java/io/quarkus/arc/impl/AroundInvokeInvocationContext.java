@@ -17,6 +17,9 @@ import javax.interceptor.InvocationContext;
  * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
  * asynchronously, possibly on a different thread.
  * <p>
+ * Besides the parameters array, an invocation of an intercepted method only allocates one context per interceptor invoked:
+ * the forwarding function is created once per bean instance and the context data map is created lazily, only if needed.
+ * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
@@ -24,13 +27,17 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The context passed to the first interceptor holds the context data shared by the whole chain
+    private final AroundInvokeInvocationContext first;
+    private volatile Map<String, Object> sharedContextData;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext first, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, null, parameters, interceptorBindings, chain);
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.first = first != null ? first : this;
     }
 
     static Object perform(Object target, Method method,
@@ -42,13 +49,29 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
                 parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        // Initialized lazily, without a holder object, as most interceptors never use it
+        Map<String, Object> data = first.sharedContextData;
+        if (data == null) {
+            synchronized (first) {
+                data = first.sharedContextData;
+                if (data == null) {
+                    data = get();
+                    first.sharedContextData = data;
+                }
+            }
+        }
+        return data;
+    }
+
     @Override
     public Object proceed() throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
                 return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                        parameters, first, interceptorBindings, position + 1, chain, aroundInvokeForward));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -0,0 +1,51 @@
+package io.quarkus.arc.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queues the tasks submitted for an executor and runs them in batches on that executor: a single task of the executor
+ * executes all the tasks submitted until the queue is empty. The tasks are executed sequentially, in the submission order.
+ * <p>
+ * The executor is passed with each task rather than held, so that a batching executor cached for a caller-provided
+ * executor does not prevent it from being garbage collected.
+ *
+ * @see io.quarkus.arc.ArcNotificationOptions#BATCHED_DELIVERY
+ */
+class BatchingExecutor {
+
+    private final Queue<Runnable> tasks;
+    private final AtomicBoolean scheduled;
+
+    BatchingExecutor() {
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean(false);
+    }
+
+    void execute(Runnable task, Executor delegate) {
+        tasks.add(task);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                delegate.execute(this::drain);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                tasks.remove(task);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+            scheduled.set(false);
+            // A task may have been queued after the last poll but before the flag was reset
+        } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Static helpers used by the generated client proxies.
+ */
+public final class ClientProxies {
+
+    private ClientProxies() {
+    }
+
+    /**
+     * The client proxy of an {@link ApplicationScoped} bean keeps the returned handle and delegates to its instance
+     * until the handle is {@link ContextInstanceHandleImpl#isDestroyed() destroyed}, instead of looking up the instance
+     * in the context on every invocation.
+     * 
+     * @param bean
+     * @return the handle of the contextual instance of the given application scoped bean, created if needed
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableBean<T> bean) {
+        // the application context is always active and cannot be replaced
+        return ((ApplicationContext) Arc.container().getActiveContext(ApplicationScoped.class)).getHandle(bean);
+    }
+
+}
@@ -11,13 +11,24 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends InstanceHandleImpl<T> implements ContextInstanceHandle<T> {
 
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    /**
+     * 
+     * @return {@code true} if the contextual instance was destroyed, e.g. a client proxy must not use it anymore
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
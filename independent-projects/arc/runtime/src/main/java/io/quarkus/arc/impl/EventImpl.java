@@ -2,6 +2,7 @@ package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ArcNotificationOptions;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
@@ -82,7 +83,8 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasObservers(true)) {
+            // Neither the task nor the request context are needed
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -107,7 +109,11 @@ class EventImpl<T> implements Event<T> {
                 }
             }
         };
-        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(withinRequest, executor);
+        Executor deliveryExecutor = executor;
+        if (Boolean.TRUE.equals(options.get(ArcNotificationOptions.BATCHED_DELIVERY))) {
+            deliveryExecutor = ArcContainerImpl.instance().getBatchingExecutor(executor);
+        }
+        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(withinRequest, deliveryExecutor);
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
@@ -116,7 +122,12 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        // Avoid computeIfAbsent() if possible, it locks the bin even if the notifier exists on JDK 8
+        notifier = notifiers.get(runtimeType);
+        if (notifier == null) {
+            notifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        }
+        return this.lastNotifier = notifier;
     }
 
     @Override
@@ -200,13 +211,24 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
 
-        private final List<ObserverMethod<? super T>> observerMethods;
+        // The observer methods are split upfront, in the order of resolution
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
 
         private final EventMetadata eventMetadata;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
-            this.observerMethods = observerMethods;
+            this.syncObserverMethods = new ArrayList<>();
+            this.asyncObserverMethods = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    asyncObserverMethods.add(observerMethod);
+                } else {
+                    syncObserverMethods.add(observerMethod);
+                }
+            }
             this.eventMetadata = eventMetadata;
         }
 
@@ -216,22 +238,30 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
-                EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-                for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                    if (observerMethod.isAsync() == async) {
-                        try {
-                            observerMethod.notify(eventContext);
-                        } catch (Throwable e) {
-                            exceptionHandler.handle(e);
-                        }
-                    }
-                }
+            List<ObserverMethod<? super T>> observerMethods = async ? asyncObserverMethods : syncObserverMethods;
+            int size = observerMethods.size();
+            if (size == 0) {
+                // No event context needed
+                return;
+            }
+            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            for (int i = 0; i < size; i++) {
+                notify(observerMethods.get(i), eventContext, exceptionHandler);
+            }
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private void notify(ObserverMethod observerMethod, EventContext eventContext,
+                ObserverExceptionHandler exceptionHandler) {
+            try {
+                observerMethod.notify(eventContext);
+            } catch (Throwable e) {
+                exceptionHandler.handle(e);
             }
         }
 
-        boolean isEmpty() {
-            return observerMethods.isEmpty();
+        boolean hasObservers(boolean async) {
+            return !(async ? asyncObserverMethods : syncObserverMethods).isEmpty();
         }
 
     }
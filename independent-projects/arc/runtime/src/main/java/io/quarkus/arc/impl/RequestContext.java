@@ -6,11 +6,15 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -24,6 +28,12 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * The request scoped beans known when the container starts are assigned dense indexes, so that their instances are stored
+ * in an array. The state may be captured and activated on another thread, so the array is an
+ * {@link AtomicReferenceArray} which publishes the instances safely. The storage of a request is only allocated when a request scoped instance is created or the state of the
+ * context is captured: activating and terminating the context for a request that does not use any request scoped bean
+ * does not allocate it.
  *
  * @author Martin Kouba
  */
@@ -31,14 +41,26 @@ class RequestContext implements ManagedContext {
 
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
+    // The state of an active context whose storage was not allocated yet, it is never modified
+    private static final RequestContextState EMPTY = new RequestContextState(0);
+
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The indexes are assigned once, the map is never modified afterwards
+    private final Map<Contextual<?>, Integer> indexes;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(List<InjectableBean<?>> beans) {
+        this.indexes = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            if (RequestScoped.class.equals(bean.getScope())) {
+                indexes.put(bean, indexes.size());
+            }
+        }
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,17 +77,21 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        Integer index = indexes.get(contextual);
+        ContextInstanceHandle<T> instance = ctx != EMPTY ? (ContextInstanceHandle<T>) ctx.get(contextual, index) : null;
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
+            if (ctx == EMPTY) {
+                ctx = allocate();
+            }
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ctx.put(contextual, index, instance);
         }
         return instance != null ? instance.get() : null;
     }
@@ -82,12 +108,15 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        if (ctx == EMPTY) {
+            return;
+        }
+        ContextInstanceHandle<?> instance = ctx.remove(contextual, indexes.get(contextual));
         if (instance != null) {
             instance.destroy();
         }
@@ -96,12 +125,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            // The storage is allocated lazily, see allocate()
+            currentContext.set(EMPTY);
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState);
             }
@@ -110,12 +140,13 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        // The captured state must reflect the instances created afterwards
+        return ctx == EMPTY ? allocate() : ctx;
     }
 
     @Override
@@ -125,36 +156,49 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
-        if (ctx != null) {
+        RequestContextState ctx = currentContext.get();
+        if (ctx == EMPTY) {
+            // No instance to destroy and nothing to guard, the empty state is shared
+            destroy(ctx);
+        } else if (ctx != null) {
             synchronized (ctx) {
-                // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(beforeDestroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occured during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
-                }
-                for (InstanceHandle<?> instance : ctx.values()) {
-                    try {
-                        instance.destroy();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
-                    }
-                }
-                // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(destroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occured during delivery of the @Destroyed(RequestScoped.class) event", e);
-                }
-                ctx.clear();
+                destroy(ctx);
             }
         }
     }
 
+    private void destroy(RequestContextState ctx) {
+        // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
+        try {
+            fireIfNotEmpty(beforeDestroyedNotifier);
+        } catch (Exception e) {
+            LOGGER.warn("An error occured during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
+        }
+        for (InstanceHandle<?> instance : ctx.values()) {
+            try {
+                instance.destroy();
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
+            }
+        }
+        // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
+        try {
+            fireIfNotEmpty(destroyedNotifier);
+        } catch (Exception e) {
+            LOGGER.warn("An error occured during delivery of the @Destroyed(RequestScoped.class) event", e);
+        }
+        ctx.clear();
+    }
+
+    private RequestContextState allocate() {
+        RequestContextState ctx = new RequestContextState(indexes.size());
+        currentContext.set(ctx);
+        return ctx;
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
-        if (!notifier.isEmpty()) {
+        if (notifier.hasObservers(false)) {
             notifier.notify(toString());
         }
     }
@@ -177,17 +221,79 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
-    class RequestContextState implements ContextState {
+    static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        // The instances of the indexed beans
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> instances;
+        // The instances of the contextuals which were not known when the container started, allocated lazily
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        RequestContextState(int size) {
+            this.instances = new AtomicReferenceArray<>(size);
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        ContextInstanceHandle<?> get(Contextual<?> contextual, Integer index) {
+            if (index != null) {
+                return instances.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> othersCopy = others;
+            return othersCopy != null ? othersCopy.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, Integer index, ContextInstanceHandle<?> instance) {
+            if (index != null) {
+                instances.set(index, instance);
+                return;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> othersCopy = others;
+            if (othersCopy == null) {
+                synchronized (this) {
+                    othersCopy = others;
+                    if (othersCopy == null) {
+                        othersCopy = new ConcurrentHashMap<>();
+                        others = othersCopy;
+                    }
+                }
+            }
+            othersCopy.put(contextual, instance);
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual, Integer index) {
+            if (index != null) {
+                return instances.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> othersCopy = others;
+            return othersCopy != null ? othersCopy.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> values() {
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            for (int i = 0; i < instances.length(); i++) {
+                ContextInstanceHandle<?> instance = instances.get(i);
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> othersCopy = others;
+            if (othersCopy != null) {
+                values.addAll(othersCopy.values());
+            }
+            return values;
+        }
+
+        void clear() {
+            for (int i = 0; i < instances.length(); i++) {
+                instances.set(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> othersCopy = others;
+            if (othersCopy != null) {
+                othersCopy.clear();
+            }
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
+            return values().stream()
                     .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
@@ -0,0 +1,64 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ClientProxyApplicationScopedDestroyTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testProxyDelegatesToNewInstance() {
+        InstanceHandle<Counter> handle = Arc.container().instance(Counter.class);
+        Counter counter = handle.get();
+        int id = counter.getId();
+        // the cached contextual instance is reused
+        assertEquals(id, counter.getId());
+        assertEquals(1, Counter.CREATED.get());
+
+        InjectableBean<Counter> bean = handle.getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(1, Counter.DESTROYED.get());
+
+        // the same client proxy must not use the destroyed instance
+        assertNotEquals(id, counter.getId());
+        assertEquals(2, Counter.CREATED.get());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int id;
+
+        @PostConstruct
+        void init() {
+            id = CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        int getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -8,8 +8,12 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.control.RequestContextController;
 import org.junit.jupiter.api.Test;
@@ -68,6 +72,63 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testStateCapturedBeforeFirstInstance() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        // no request scoped instance exists yet
+        InjectableContext.ContextState state = requestContext.getState();
+        assertTrue(state.getContextualInstances().isEmpty());
+        String controllerId = arc.instance(Controller.class).get().getId();
+        assertEquals(1, state.getContextualInstances().size());
+        requestContext.deactivate();
+
+        // the captured state holds the instance created after it was captured
+        requestContext.activate(state);
+        assertEquals(controllerId, arc.instance(Controller.class).get().getId());
+        requestContext.terminate();
+        assertTrue(Controller.DESTROYED.get());
+    }
+
+    @Test
+    public void testStateActivatedOnAnotherThread() throws Exception {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            requestContext.activate();
+            InjectableContext.ContextState state = requestContext.getState();
+            String controllerId = arc.instance(Controller.class).get().getId();
+            requestContext.deactivate();
+
+            // the instance created on this thread is visible to the other one, and the other way round
+            String otherId = executor.submit(() -> {
+                requestContext.activate(state);
+                try {
+                    assertEquals(controllerId, arc.instance(Controller.class).get().getId());
+                    requestContext.destroy(arc.instance(Controller.class).getBean());
+                    return arc.instance(Controller.class).get().getId();
+                } finally {
+                    requestContext.deactivate();
+                }
+            }).get(10, TimeUnit.SECONDS);
+            assertTrue(Controller.DESTROYED.get());
+            assertNotEquals(controllerId, otherId);
+
+            Controller.DESTROYED.set(false);
+            requestContext.activate(state);
+            assertEquals(otherId, arc.instance(Controller.class).get().getId());
+            requestContext.terminate();
+            assertTrue(Controller.DESTROYED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testRequestContextController() {
         Controller.DESTROYED.set(false);
@@ -0,0 +1,64 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RepeatedProceedTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class);
+
+    @Test
+    public void testRepeatedProceed() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("B(a)|B(b)", bean.echo("a"));
+        // the same chain and forwarding function are used for the next invocations
+        assertEquals("B(c)|B(b)", bean.echo("c"));
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String echo(String value) {
+            return value;
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Object first = ctx.proceed();
+            ctx.setParameters(new Object[] { "b" });
+            return first + "|" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return "B(" + ctx.proceed() + ")";
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcNotificationOptions;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class AsyncObserverBatchedDeliveryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringObserver.class);
+
+    @Test
+    public void testBatchedDelivery() {
+        QueuingExecutor executor = new QueuingExecutor();
+        NotificationOptions options = NotificationOptions.builder().setExecutor(executor)
+                .set(ArcNotificationOptions.BATCHED_DELIVERY, true).build();
+        Event<String> event = Arc.container().beanManager().getEvent().select(String.class);
+
+        List<CompletionStage<String>> stages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            stages.add(event.fireAsync("ping" + i, options));
+        }
+        // All the deliveries are executed by a single task
+        assertEquals(1, executor.tasks.size());
+        executor.tasks.remove(0).run();
+        assertTrue(executor.tasks.isEmpty());
+
+        List<String> events = Arc.container().instance(StringObserver.class).get().events;
+        assertEquals(100, events.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("ping" + i, events.get(i));
+            assertTrue(stages.get(i).toCompletableFuture().isDone());
+        }
+    }
+
+    @Test
+    public void testNoAsyncObserver() {
+        QueuingExecutor executor = new QueuingExecutor();
+        CompletionStage<Integer> stage = Arc.container().beanManager().getEvent().select(Integer.class)
+                .fireAsync(1, NotificationOptions.ofExecutor(executor));
+        // Nothing to deliver
+        assertTrue(executor.tasks.isEmpty());
+        assertEquals(1, stage.toCompletableFuture().join());
+    }
+
+    static class QueuingExecutor implements Executor {
+
+        final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void observeAsync(@ObservesAsync String value) {
+            events.add(value);
+        }
+
+    }
+
+}
@@ -1,8 +1,10 @@
 package io.quarkus.it.panache;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -19,6 +21,7 @@ import javax.ws.rs.core.MediaType;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.junit.jupiter.api.Assertions;
 
+import io.quarkus.hibernate.orm.panache.Panache;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
@@ -159,6 +162,10 @@ public class TestEndpoint {
         testPersist(PersistTest.Variadic);
         Assertions.assertEquals(6, Person.deleteAll());
 
+        testBulkPersist(persons -> Person.bulkPersist(persons));
+        testBulkPersist(persons -> Person.bulkPersist(persons.stream()));
+        Assertions.assertEquals(240, Person.deleteAll());
+
         testSorting();
 
         // paging
@@ -167,6 +174,15 @@ public class TestEndpoint {
         }
         testPaging(Person.findAll());
         testPaging(Person.find("ORDER BY name"));
+        testKeysetPaging(Person.findAll(Sort.by("name")));
+        testKeysetPaging(Person.find("name like ?1", Sort.by("name"), "stef%"));
+        try {
+            // the keyset query is built from the Sort, not from the ORDER BY clause of the query
+            Person.find("name like ?1 order by name", "stef%").page(0, 3).after();
+            Assertions.fail();
+        } catch (IllegalStateException x) {
+        }
+        testStreaming();
 
         try {
             Person.findAll().singleResult();
@@ -430,6 +446,10 @@ public class TestEndpoint {
         testPersistDao(PersistTest.Variadic);
         Assertions.assertEquals(6, personDao.deleteAll());
 
+        testBulkPersist(persons -> personDao.bulkPersist(persons));
+        testBulkPersist(persons -> personDao.bulkPersist(persons.stream()));
+        Assertions.assertEquals(240, personDao.deleteAll());
+
         testSortingDao();
 
         // paging
@@ -438,6 +458,8 @@ public class TestEndpoint {
         }
         testPaging(personDao.findAll());
         testPaging(personDao.find("ORDER BY name"));
+        testKeysetPaging(personDao.findAll(Sort.by("name")));
+        testKeysetPaging(personDao.find("name like :name", Sort.by("name"), Parameters.with("name", "stef%")));
 
         try {
             personDao.findAll().singleResult();
@@ -528,6 +550,24 @@ public class TestEndpoint {
         Assertions.assertEquals(3, Person.deleteAll());
     }
 
+    private void testBulkPersist(Consumer<List<Person>> bulkPersist) {
+        long count = Person.count();
+        List<Person> persons = new ArrayList<>();
+        // more than a batch, so that some entities are flushed before the last ones are persisted
+        for (int i = 0; i < 120; i++) {
+            Person person = new Person();
+            person.name = "bulk" + i;
+            persons.add(person);
+        }
+        bulkPersist.accept(persons);
+        for (Person person : persons) {
+            Assertions.assertNotNull(person.id);
+            // flushed then detached from the persistence context
+            Assertions.assertFalse(person.isPersistent());
+        }
+        Assertions.assertEquals(count + 120, Person.count());
+    }
+
     enum PersistTest {
         Iterable,
         Variadic,
@@ -578,6 +618,53 @@ public class TestEndpoint {
         return person;
     }
 
+    private void testStreaming() {
+        Panache.getEntityManager().flush();
+        Panache.getEntityManager().clear();
+
+        // streamed entities stay managed, so their changes are flushed
+        try (Stream<Person> persons = Person.streamAll()) {
+            persons.forEach(p -> p.status = Status.DECEASED);
+        }
+        Assertions.assertEquals(7, Person.count("status", Status.DECEASED));
+
+        // detached ones are not, except for those already managed before streaming
+        Person managed = Person.find("name", "stef0").firstResult();
+        try (Stream<Person> persons = Person.findAll().withFetchSize(2).streamDetached()) {
+            persons.forEach(p -> p.status = Status.LIVING);
+        }
+        Assertions.assertTrue(Panache.getEntityManager().contains(managed));
+        Assertions.assertEquals(1, Person.count("status", Status.LIVING));
+        Assertions.assertEquals(6, Person.count("status", Status.DECEASED));
+    }
+
+    private void testKeysetPaging(PanacheQuery<Person> query) {
+        List<Person> persons = query.page(0, 3).after().list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef2", persons.get(2).name);
+        Assertions.assertTrue(query.hasNextPage());
+        Assertions.assertFalse(query.hasPreviousPage());
+
+        persons = query.after(persons.get(2).name).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+        Assertions.assertTrue(query.hasNextPage());
+        Assertions.assertTrue(query.hasPreviousPage());
+
+        persons = query.after(persons.get(2).name).list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+        Assertions.assertFalse(query.hasNextPage());
+
+        try {
+            query.after("stef0", "too many");
+            Assertions.fail();
+        } catch (IllegalArgumentException x) {
+        }
+    }
+
     private void testPaging(PanacheQuery<Person> query) {
         // ints
         List<Person> persons = query.page(0, 3).list();
@@ -11,9 +11,8 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 
 import org.apache.kafka.streams.KafkaStreams;
-import org.apache.kafka.streams.errors.InvalidStateStoreException;
-import org.apache.kafka.streams.state.QueryableStoreTypes;
-import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+
+import io.quarkus.kafka.streams.runtime.InteractiveQueries;
 
 @ApplicationScoped
 @Path("/kafkastreams")
@@ -22,15 +21,8 @@ public class KafkaStreamsEndpoint {
     @Inject
     KafkaStreams streams;
 
-    private ReadOnlyKeyValueStore<Integer, Long> getCountstore() {
-        while (true) {
-            try {
-                return streams.store("countstore", QueryableStoreTypes.keyValueStore());
-            } catch (InvalidStateStoreException e) {
-                // ignore, store not ready yet
-            }
-        }
-    }
+    @Inject
+    InteractiveQueries interactiveQueries;
 
     @POST
     @Path("/stop")
@@ -43,6 +35,6 @@ public class KafkaStreamsEndpoint {
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     public Long getCategory(@PathParam("id") int id) {
-        return getCountstore().get(id);
+        return interactiveQueries.<Integer, Long> get("countstore", id).orElse(null);
     }
 }
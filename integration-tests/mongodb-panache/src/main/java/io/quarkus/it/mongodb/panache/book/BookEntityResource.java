@@ -2,7 +2,10 @@ package io.quarkus.it.mongodb.panache.book;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.ws.rs.*;
@@ -12,6 +15,7 @@ import javax.ws.rs.core.Response;
 import org.bson.types.ObjectId;
 import org.jboss.logging.Logger;
 
+import io.quarkus.mongodb.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 
@@ -36,6 +40,30 @@ public class BookEntityResource {
         return BookEntity.listAll();
     }
 
+    @GET
+    @Path("/stream")
+    public List<BookEntity> streamBooks(@QueryParam("sort") String sort, @QueryParam("limit") Long limit) {
+        // batches of one book, so that the cursor fetches several of them
+        try (Stream<BookEntity> books = BookEntity.<BookEntity> findAll(Sort.ascending(sort)).withBatchSize(1).stream()) {
+            return books.limit(limit != null ? limit : Long.MAX_VALUE).collect(Collectors.toList());
+        }
+    }
+
+    @GET
+    @Path("/keyset")
+    public List<BookEntity> keysetBooks(@QueryParam("size") int size) {
+        // a filtered query, sorted on two fields including a descending one
+        PanacheQuery<BookEntity> query = BookEntity.find("{'author': {$ne: ?1}}",
+                Sort.ascending("author").and("creationDate", Sort.Direction.Descending), "Nobody")
+                .page(0, size).after();
+        List<BookEntity> books = new ArrayList<>(query.list());
+        while (query.hasNextPage()) {
+            BookEntity last = books.get(books.size() - 1);
+            books.addAll(query.after(last.getAuthor(), last.getCreationDate()).list());
+        }
+        return books;
+    }
+
     @POST
     public Response addBook(BookEntity book) {
         book.persist();
@@ -7,6 +7,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import io.quarkus.mongodb.panache.PanacheBulkWrite;
 import io.quarkus.panache.common.Sort;
 
 @Path("/persons/entity")
@@ -34,6 +35,21 @@ public class PersonEntityResource {
         PersonEntity.persist(persons);
     }
 
+    // persons without a firstname are deleted, the other ones are inserted or updated
+    @POST
+    @Path("/bulk")
+    public void bulkWritePersons(List<PersonEntity> persons) {
+        PanacheBulkWrite bulkWrite = PersonEntity.bulkWrite().unordered();
+        for (PersonEntity person : persons) {
+            if (person.firstname == null) {
+                bulkWrite.delete(person);
+            } else {
+                bulkWrite.persistOrUpdate(person);
+            }
+        }
+        bulkWrite.execute();
+    }
+
     @PUT
     public Response updatePerson(PersonEntity person) {
         person.update();
@@ -8,6 +8,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import io.quarkus.mongodb.panache.PanacheBulkWrite;
 import io.quarkus.panache.common.Sort;
 
 @Path("/persons/repository")
@@ -39,6 +40,21 @@ public class PersonRepositoryResource {
         personRepository.persist(persons);
     }
 
+    // persons without a firstname are deleted, the other ones are inserted or updated
+    @POST
+    @Path("/bulk")
+    public void bulkWritePersons(List<Person> persons) {
+        PanacheBulkWrite bulkWrite = personRepository.bulkWrite().unordered();
+        for (Person person : persons) {
+            if (person.firstname == null) {
+                bulkWrite.delete(person);
+            } else {
+                bulkWrite.persistOrUpdate(person);
+            }
+        }
+        bulkWrite.execute();
+    }
+
     @PUT
     public Response updatePerson(Person person) {
         personRepository.update(person);
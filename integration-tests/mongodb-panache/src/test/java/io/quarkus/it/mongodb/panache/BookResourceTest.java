@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -162,6 +163,22 @@ class BookResourceTest {
         list = get(endpoint + "?sort=author").as(LIST_OF_BOOK_TYPE_REF);
         Assertions.assertEquals(4, list.size());
 
+        // streamed from a cursor, fully or partially consumed
+        list = get(endpoint + "/stream?sort=bookTitle").as(LIST_OF_BOOK_TYPE_REF);
+        Assertions.assertEquals(4, list.size());
+        Assertions.assertEquals("Le Spleen de Paris", list.get(0).getTitle());
+        Assertions.assertEquals("Notre-Dame de Paris", list.get(3).getTitle());
+        list = get(endpoint + "/stream?sort=bookTitle&limit=2").as(LIST_OF_BOOK_TYPE_REF);
+        Assertions.assertEquals(2, list.size());
+        Assertions.assertEquals("Les Misérables", list.get(1).getTitle());
+
+        // keyset pagination by author, then most recent first
+        for (int size : new int[] { 1, 3, 4 }) {
+            list = get(endpoint + "/keyset?size=" + size).as(LIST_OF_BOOK_TYPE_REF);
+            Assertions.assertEquals(Arrays.asList("Le Spleen de Paris", "Les fleurs du mal", "Les Misérables",
+                    "Notre-Dame de Paris"), list.stream().map(BookDTO::getTitle).collect(Collectors.toList()));
+        }
+
         // magic query find("author", author)
         list = get(endpoint + "/search/Victor Hugo").as(LIST_OF_BOOK_TYPE_REF);
         Assertions.assertEquals(2, list.size());
@@ -303,6 +320,32 @@ class BookResourceTest {
         count = get(endpoint + "/count").as(Long.class);
         Assertions.assertEquals(3, count);
 
+        //bulk write: update a person, insert a new one and delete another one
+        person4.lastname = "Bulk";
+        Person person5 = new Person();
+        person5.id = 5L;
+        person5.firstname = "Emile";
+        person5.lastname = "Zola";
+        person1.firstname = null;
+        persons = new ArrayList<>();
+        persons.add(person4);
+        persons.add(person5);
+        persons.add(person1);
+        response = RestAssured
+                .given()
+                .header("Content-Type", "application/json")
+                .body(persons)
+                .post(endpoint + "/bulk")
+                .andReturn();
+        Assertions.assertEquals(204, response.statusCode());
+
+        count = get(endpoint + "/count").as(Long.class);
+        Assertions.assertEquals(3, count);
+        person4 = get(endpoint + "/" + person4.id.toString()).as(Person.class);
+        Assertions.assertEquals("Bulk", person4.lastname);
+        person5 = get(endpoint + "/" + person5.id.toString()).as(Person.class);
+        Assertions.assertEquals("Zola", person5.lastname);
+
         //delete all
         response = RestAssured
                 .given()